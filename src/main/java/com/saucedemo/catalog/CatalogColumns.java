@@ -0,0 +1,208 @@
+package com.saucedemo.catalog;
+
+import com.saucedemo.pages.probe.InventorySnapshot;
+import com.saucedemo.pages.probe.ProductSnapshot;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Column-oriented view of a product listing: names in one array, prices parsed once into
+ * cents held in a primitive array. The order checks walk the arrays without allocating, so
+ * sort assertions stay cheap on large synthetic catalogs.
+ */
+public final class CatalogColumns {
+
+    private final String[] names;
+    private final long[] priceCents;
+
+    private CatalogColumns(String[] names, long[] priceCents) {
+        this.names = names;
+        this.priceCents = priceCents;
+    }
+
+    public static CatalogColumns of(List<String> names, List<String> prices) {
+        if (names.size() != prices.size()) {
+            throw new IllegalArgumentException(
+                    "Names and prices differ in size: " + names.size() + " vs " + prices.size());
+        }
+        int size = names.size();
+        String[] nameColumn = new String[size];
+        long[] priceColumn = new long[size];
+        for (int i = 0; i < size; i++) {
+            nameColumn[i] = names.get(i);
+            priceColumn[i] = parseCents(prices.get(i));
+        }
+        return new CatalogColumns(nameColumn, priceColumn);
+    }
+
+    public static CatalogColumns of(InventorySnapshot snapshot) {
+        List<ProductSnapshot> products = snapshot.products();
+        int size = products.size();
+        String[] nameColumn = new String[size];
+        long[] priceColumn = new long[size];
+        for (int i = 0; i < size; i++) {
+            ProductSnapshot product = products.get(i);
+            nameColumn[i] = product.name();
+            priceColumn[i] = parseCents(product.price());
+        }
+        return new CatalogColumns(nameColumn, priceColumn);
+    }
+
+    /**
+     * Builds a random catalog of the given size, for exercising sort checks at scale.
+     */
+    public static CatalogColumns synthetic(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        String[] nameColumn = new String[size];
+        long[] priceColumn = new long[size];
+        for (int i = 0; i < size; i++) {
+            nameColumn[i] = "Synthetic Product " + i;
+            priceColumn[i] = random.nextLong(1, 100_000);
+        }
+        return new CatalogColumns(nameColumn, priceColumn);
+    }
+
+    /**
+     * Copy of this catalog with the price column sorted, for producing known-good orderings.
+     */
+    public CatalogColumns withPricesSorted(boolean ascending) {
+        long[] sorted = Arrays.copyOf(priceCents, priceCents.length);
+        Arrays.sort(sorted);
+        if (!ascending) {
+            for (int i = 0, j = sorted.length - 1; i < j; i++, j--) {
+                long swap = sorted[i];
+                sorted[i] = sorted[j];
+                sorted[j] = swap;
+            }
+        }
+        return new CatalogColumns(names, sorted);
+    }
+
+    /**
+     * Parses a display price such as "$29.99" or "Item total: $29.99" into cents without
+     * creating intermediate strings. Fractions beyond two digits are truncated.
+     */
+    public static long parseCents(CharSequence price) {
+        int length = price.length();
+        int i = 0;
+        while (i < length && !Character.isDigit(price.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            throw new IllegalArgumentException("No price found in: " + price);
+        }
+        long whole = 0;
+        while (i < length && (Character.isDigit(price.charAt(i)) || price.charAt(i) == ',')) {
+            char c = price.charAt(i++);
+            if (c != ',') {
+                whole = whole * 10 + (c - '0');
+            }
+        }
+        long fraction = 0;
+        int fractionDigits = 0;
+        if (i < length && price.charAt(i) == '.') {
+            i++;
+            while (i < length && Character.isDigit(price.charAt(i)) && fractionDigits < 2) {
+                fraction = fraction * 10 + (price.charAt(i++) - '0');
+                fractionDigits++;
+            }
+        }
+        if (fractionDigits == 1) {
+            fraction *= 10;
+        }
+        return whole * 100 + fraction;
+    }
+
+    public int size() {
+        return priceCents.length;
+    }
+
+    public String nameAt(int index) {
+        return names[index];
+    }
+
+    public long priceCentsAt(int index) {
+        return priceCents[index];
+    }
+
+    public boolean isPriceAscending() {
+        return firstPriceViolation(true) < 0;
+    }
+
+    public boolean isPriceDescending() {
+        return firstPriceViolation(false) < 0;
+    }
+
+    public boolean isNameAscending() {
+        return firstNameViolation(true) < 0;
+    }
+
+    public boolean isNameDescending() {
+        return firstNameViolation(false) < 0;
+    }
+
+    /**
+     * Index of the first element that breaks the requested price order, or -1 if none does.
+     */
+    public int firstPriceViolation(boolean ascending) {
+        // Separate loops keep the hot comparison branch-free of the direction flag
+        if (ascending) {
+            for (int i = 1; i < priceCents.length; i++) {
+                if (priceCents[i] < priceCents[i - 1]) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = 1; i < priceCents.length; i++) {
+                if (priceCents[i] > priceCents[i - 1]) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Index of the first element that breaks the requested name order, or -1 if none does.
+     */
+    public int firstNameViolation(boolean ascending) {
+        for (int i = 1; i < names.length; i++) {
+            int comparison = names[i].compareTo(names[i - 1]);
+            if (ascending ? comparison < 0 : comparison > 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public long minPriceCents() {
+        long min = Long.MAX_VALUE;
+        for (long price : priceCents) {
+            min = Math.min(min, price);
+        }
+        return min;
+    }
+
+    public long maxPriceCents() {
+        long max = Long.MIN_VALUE;
+        for (long price : priceCents) {
+            max = Math.max(max, price);
+        }
+        return max;
+    }
+
+    public long totalPriceCents() {
+        long total = 0;
+        for (long price : priceCents) {
+            total += price;
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return "CatalogColumns[" + size() + " products]";
+    }
+}
@@ -0,0 +1,7 @@
+package com.saucedemo.catalog;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record CatalogProduct(String name, String description, String price) {
+}
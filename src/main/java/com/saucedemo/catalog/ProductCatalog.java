@@ -0,0 +1,127 @@
+package com.saucedemo.catalog;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saucedemo.pages.probe.InventorySnapshot;
+import com.saucedemo.pages.probe.ProductSnapshot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Immutable product catalog used as the expected-value oracle for the inventory, details and cart pages.
+ * Loaded from a versioned resource or extracted from a live inventory snapshot; safe to share across threads.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class ProductCatalog {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String version;
+    private final List<CatalogProduct> products;
+    private final Map<String, CatalogProduct> productsByName;
+
+    @JsonCreator
+    public ProductCatalog(@JsonProperty("version") String version,
+                          @JsonProperty("products") List<CatalogProduct> products) {
+        this.version = version;
+        this.products = List.copyOf(products);
+        Map<String, CatalogProduct> byName = new LinkedHashMap<>();
+        for (CatalogProduct product : this.products) {
+            byName.put(product.name(), product);
+        }
+        this.productsByName = Collections.unmodifiableMap(byName);
+    }
+
+    public static ProductCatalog fromResource(String resource) {
+        try (InputStream in = ProductCatalog.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Catalog resource not found on classpath: " + resource);
+            }
+            return objectMapper.readValue(in, ProductCatalog.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read catalog resource " + resource, e);
+        }
+    }
+
+    public static ProductCatalog fromSnapshot(InventorySnapshot snapshot, String version) {
+        List<CatalogProduct> products = new ArrayList<>();
+        for (ProductSnapshot product : snapshot.products()) {
+            products.add(new CatalogProduct(product.name(), product.description(), product.price()));
+        }
+        return new ProductCatalog(version, products);
+    }
+
+    @JsonProperty("version")
+    public String getVersion() {
+        return version;
+    }
+
+    @JsonProperty("products")
+    public List<CatalogProduct> getProducts() {
+        return products;
+    }
+
+    public List<String> getProductNames() {
+        return List.copyOf(productsByName.keySet());
+    }
+
+    public Optional<CatalogProduct> find(String name) {
+        return Optional.ofNullable(productsByName.get(name));
+    }
+
+    public CatalogProduct get(String name) {
+        CatalogProduct product = productsByName.get(name);
+        if (product == null) {
+            throw new IllegalArgumentException("Product not in catalog " + version + ": " + name);
+        }
+        return product;
+    }
+
+    public int size() {
+        return products.size();
+    }
+
+    /**
+     * Lists every difference between this catalog and another, ignoring product order.
+     * An empty list means the two agree on names, descriptions and prices.
+     */
+    public List<String> diff(ProductCatalog other) {
+        List<String> differences = new ArrayList<>();
+        for (CatalogProduct expected : products) {
+            CatalogProduct actual = other.productsByName.get(expected.name());
+            if (actual == null) {
+                differences.add("missing product: " + expected.name());
+                continue;
+            }
+            if (!Objects.equals(expected.price(), actual.price())) {
+                differences.add(expected.name() + " price: expected " + expected.price() + " but was " + actual.price());
+            }
+            if (!Objects.equals(expected.description(), actual.description())) {
+                differences.add(expected.name() + " description differs: expected '" + expected.description()
+                        + "' but was '" + actual.description() + "'");
+            }
+        }
+        for (String name : other.productsByName.keySet()) {
+            if (!productsByName.containsKey(name)) {
+                differences.add("unexpected product: " + name);
+            }
+        }
+        return differences;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductCatalog[" + version + ", " + products.size() + " products]";
+    }
+}
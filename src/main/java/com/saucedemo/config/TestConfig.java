@@ -32,14 +32,130 @@ public interface TestConfig extends Config {
     @DefaultValue("OFF")
     String videoMode();
 
+    @Key("video.size")
+    @DefaultValue("960x540")
+    String videoSize();
+
     @Key("screenshot.mode")
     @DefaultValue("ON_FAILURE")
     String screenshotMode();
 
+    @Key("screenshot.format")
+    @DefaultValue("JPEG")
+    String screenshotFormat();
+
+    @Key("screenshot.quality")
+    @DefaultValue("80")
+    int screenshotQuality();
+
+    @Key("screenshot.scale")
+    @DefaultValue("CSS")
+    String screenshotScale();
+
+    @Key("screenshot.clip")
+    @DefaultValue("")
+    String screenshotClip();
+
+    @Key("screencast.mode")
+    @DefaultValue("OFF")
+    String screencastMode();
+
+    @Key("screencast.seconds")
+    @DefaultValue("5")
+    int screencastSeconds();
+
+    @Key("screencast.fps")
+    @DefaultValue("5")
+    int screencastFps();
+
+    @Key("screencast.size")
+    @DefaultValue("640x360")
+    String screencastSize();
+
+    @Key("screencast.quality")
+    @DefaultValue("50")
+    int screencastQuality();
+
     @Key("trace.mode")
     @DefaultValue("ON_FAILURE")
     String traceMode();
 
+    @Key("trace.profile")
+    @DefaultValue("FULL")
+    String traceProfile();
+
+    @Key("trace.slim")
+    @DefaultValue("true")
+    boolean traceSlim();
+
+    @Key("trace.slim.drop")
+    @DefaultValue("resources/.*\\.(woff2?|ttf|otf)")
+    String traceSlimDrop();
+
+    @Key("visual.baseline.dir")
+    @DefaultValue("src/test/resources/visual-baselines")
+    String visualBaselineDir();
+
+    @Key("visual.threshold")
+    @DefaultValue("0.1")
+    double visualThreshold();
+
+    @Key("visual.max.diff.ratio")
+    @DefaultValue("0.001")
+    double visualMaxDiffRatio();
+
+    @Key("visual.tile.size")
+    @DefaultValue("128")
+    int visualTileSize();
+
+    @Key("visual.update")
+    @DefaultValue("false")
+    boolean visualUpdate();
+
+    @Key("evidence.writer.threads")
+    @DefaultValue("2")
+    int evidenceWriterThreads();
+
+    @Key("evidence.queue.capacity")
+    @DefaultValue("64")
+    int evidenceQueueCapacity();
+
+    @Key("animations.fast")
+    @DefaultValue("true")
+    boolean fastAnimations();
+
+    @Key("valid.username")
+    @DefaultValue("standard_user")
+    String validUsername();
+
+    @Key("valid.password")
+    @DefaultValue("secret_sauce")
+    String validPassword();
+
+    @Key("catalog.resource")
+    @DefaultValue("catalog/saucedemo-products.json")
+    String catalogResource();
+
+    @Key("catalog.source")
+    @DefaultValue("RESOURCE")
+    String catalogSource();
+
+    @Key("catalog.drift")
+    @DefaultValue("WARN")
+    String catalogDrift();
+
+    @Key("crawler.concurrency")
+    @DefaultValue("4")
+    int crawlerConcurrency();
+
+    @Key("crawler.max.routes")
+    @DefaultValue("50")
+    int crawlerMaxRoutes();
+
+    @Key("crawler.exclude")
+    @DefaultValue("logout|reset|add-to-cart|remove|react-burger|finish")
+    String crawlerExclude();
+
     @Key("parallel.workers")
     @DefaultValue("1")
     int parallelWorkers();
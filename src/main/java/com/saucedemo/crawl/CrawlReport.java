@@ -0,0 +1,80 @@
+package com.saucedemo.crawl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Result of one {@link SiteCrawler#crawl(String)} run: every route loaded, plus links that left the app.
+ */
+public final class CrawlReport {
+
+    private final List<RouteReport> routes;
+    private final Set<String> externalLinks;
+    private final int clicksProbed;
+    private final long elapsedMillis;
+
+    CrawlReport(List<RouteReport> routes, Set<String> externalLinks, int clicksProbed, long elapsedMillis) {
+        List<RouteReport> sorted = new ArrayList<>(routes);
+        sorted.sort(Comparator.comparing(RouteReport::url));
+        this.routes = List.copyOf(sorted);
+        this.externalLinks = new TreeSet<>(externalLinks);
+        this.clicksProbed = clicksProbed;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public List<RouteReport> getRoutes() {
+        return routes;
+    }
+
+    public List<String> getRouteUrls() {
+        return routes.stream().map(RouteReport::url).toList();
+    }
+
+    public List<RouteReport> getBrokenRoutes() {
+        return routes.stream().filter(RouteReport::isBroken).toList();
+    }
+
+    public List<RouteReport> getRoutesWithPageErrors() {
+        return routes.stream().filter(route -> !route.pageErrors().isEmpty()).toList();
+    }
+
+    public List<RouteReport> getRoutesWithConsoleErrors() {
+        return routes.stream().filter(route -> !route.consoleErrors().isEmpty()).toList();
+    }
+
+    public Set<String> getExternalLinks() {
+        return externalLinks;
+    }
+
+    public int getClicksProbed() {
+        return clicksProbed;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Plain-text table of routes with load time, status and error counts, for logs and report attachments.
+     */
+    public String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%-70s %6s %8s %8s %8s%n", "Route", "Status", "Load ms", "Console", "Errors"));
+        for (RouteReport route : routes) {
+            table.append(String.format("%-70s %6s %8d %8d %8d%n", route.url(),
+                    route.error() != null ? "FAIL" : String.valueOf(route.status()),
+                    route.loadMillis(), route.consoleErrors().size(), route.pageErrors().size()));
+        }
+        table.append(String.format("%d routes, %d broken, %d click probes, %d external links in %dms%n",
+                routes.size(), getBrokenRoutes().size(), clicksProbed, externalLinks.size(), elapsedMillis));
+        return table.toString();
+    }
+
+    @Override
+    public String toString() {
+        return routes.size() + " routes (" + getBrokenRoutes().size() + " broken) in " + elapsedMillis + "ms";
+    }
+}
@@ -0,0 +1,42 @@
+package com.saucedemo.crawl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * What the crawler saw when it loaded one in-app URL directly.
+ *
+ * @param url           normalised URL (no fragment)
+ * @param referrer      URL of the page the route was discovered on, null for the start URL
+ * @param status        HTTP status of the main document, 0 when the navigation failed
+ * @param loadMillis    navigation start to load event end, from the Navigation Timing entry
+ * @param error         navigation error message, null when the document loaded
+ * @param consoleErrors console messages of type error, including those logged after clicking its buttons
+ * @param pageErrors    uncaught exceptions thrown by page scripts, including click handlers
+ */
+public record RouteReport(String url, String referrer, int status, long loadMillis, String error,
+                          List<String> consoleErrors, List<String> pageErrors) {
+
+    public RouteReport {
+        consoleErrors = List.copyOf(consoleErrors);
+        pageErrors = List.copyOf(pageErrors);
+    }
+
+    /**
+     * Copy of this route with the errors raised by clicking one of its elements appended, prefixed with the selector.
+     */
+    RouteReport withClickErrors(String selector, List<String> clickConsoleErrors, List<String> clickPageErrors) {
+        if (clickConsoleErrors.isEmpty() && clickPageErrors.isEmpty()) {
+            return this;
+        }
+        List<String> console = new ArrayList<>(consoleErrors);
+        clickConsoleErrors.forEach(message -> console.add("click " + selector + ": " + message));
+        List<String> page = new ArrayList<>(pageErrors);
+        clickPageErrors.forEach(message -> page.add("click " + selector + ": " + message));
+        return new RouteReport(url, referrer, status, loadMillis, error, console, page);
+    }
+
+    public boolean isBroken() {
+        return error != null || status >= 400;
+    }
+}
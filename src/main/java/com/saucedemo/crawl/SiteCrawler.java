@@ -0,0 +1,269 @@
+package com.saucedemo.crawl;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Response;
+import com.microsoft.playwright.options.LoadState;
+import com.microsoft.playwright.options.WaitUntilState;
+import com.saucedemo.utils.BrowserManager;
+import io.qameta.allure.Step;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Crawls the app from a start URL using the thread's (already authenticated) browser context.
+ * Up to {@code concurrency} sibling pages are in flight at once: every navigation is only committed when
+ * its slot is filled, so the browser loads them in parallel while the crawler finishes the oldest one.
+ * Links with a real href are followed directly; links and buttons without one are clicked on a fresh copy
+ * of their page to find where they lead. Elements matching the exclude pattern (logout, cart mutations)
+ * are never clicked, so the crawl does not change the session it runs in.
+ */
+public class SiteCrawler {
+    private static final Logger logger = LoggerFactory.getLogger(SiteCrawler.class);
+
+    // Collects absolute hrefs and stable selectors of visible clickables without one
+    private static final String DISCOVER_SCRIPT = """
+            (excludePattern) => {
+                const exclude = new RegExp(excludePattern, 'i');
+                const links = new Set();
+                const clickables = new Set();
+                const isVisible = el => {
+                    const rect = el.getBoundingClientRect();
+                    return rect.width > 0 && rect.height > 0 && getComputedStyle(el).visibility !== 'hidden';
+                };
+                for (const el of document.querySelectorAll('a, button, [role="link"], [role="button"]')) {
+                    const href = el.getAttribute('href');
+                    if (href && href !== '#' && !href.startsWith('javascript:')) {
+                        links.add(el.href);
+                        continue;
+                    }
+                    const id = el.getAttribute('id');
+                    const dataTest = el.getAttribute('data-test');
+                    const key = id || dataTest;
+                    if (!key || exclude.test(key) || el.disabled || !isVisible(el)) {
+                        continue;
+                    }
+                    clickables.add(id ? '[id="' + id + '"]' : '[data-test="' + dataTest + '"]');
+                }
+                return { links: Array.from(links), clickables: Array.from(clickables) };
+            }
+            """;
+
+    private static final String LOAD_TIME_SCRIPT = """
+            () => {
+                const entry = performance.getEntriesByType('navigation')[0];
+                return entry ? Math.round(entry.loadEventEnd || entry.duration) : -1;
+            }
+            """;
+
+    private static final double CLICK_TIMEOUT_MS = 2000;
+
+    private record Task(String url, String referrer, String clickSelector) {
+
+        boolean isClick() {
+            return clickSelector != null;
+        }
+    }
+
+    private static final class InFlight {
+        private final Task task;
+        private final Page page;
+        private final List<String> consoleErrors = new ArrayList<>();
+        private final List<String> pageErrors = new ArrayList<>();
+        private Response response;
+        private String error;
+
+        private InFlight(Task task, Page page) {
+            this.task = task;
+            this.page = page;
+        }
+    }
+
+    private final int concurrency;
+    private final int maxRoutes;
+    private final String excludePattern;
+
+    // Plain collections: the parallelism is in the browser, and Playwright dispatches page events on this
+    // thread during its blocking calls, so a single thread owns all crawl state and needs no concurrent claim sets
+    private final Set<String> visited = new HashSet<>();
+    private final Set<String> probedClicks = new HashSet<>();
+    private final Set<String> externalLinks = new HashSet<>();
+    private final Map<String, RouteReport> routes = new LinkedHashMap<>();
+
+    public SiteCrawler(int concurrency, int maxRoutes, String excludePattern) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Crawler concurrency must be at least 1, was " + concurrency);
+        }
+        this.concurrency = concurrency;
+        this.maxRoutes = maxRoutes;
+        this.excludePattern = excludePattern;
+    }
+
+    @Step("Crawl app from: {startUrl}")
+    public CrawlReport crawl(String startUrl) {
+        URI origin = URI.create(startUrl);
+        Deque<Task> frontier = new ArrayDeque<>();
+        Deque<InFlight> inFlight = new ArrayDeque<>();
+        long start = System.currentTimeMillis();
+
+        visited.clear();
+        probedClicks.clear();
+        externalLinks.clear();
+        routes.clear();
+        visited.add(normalize(startUrl));
+        frontier.add(new Task(normalize(startUrl), null, null));
+        try {
+            while (!frontier.isEmpty() || !inFlight.isEmpty()) {
+                while (inFlight.size() < concurrency && !frontier.isEmpty()) {
+                    inFlight.add(begin(frontier.poll()));
+                }
+                InFlight oldest = inFlight.poll();
+                try {
+                    finish(oldest, origin, frontier);
+                } finally {
+                    closeQuietly(oldest.page);
+                }
+            }
+        } finally {
+            inFlight.forEach(running -> closeQuietly(running.page));
+        }
+
+        CrawlReport report = new CrawlReport(new ArrayList<>(routes.values()), externalLinks, probedClicks.size(),
+                System.currentTimeMillis() - start);
+        logger.info("Crawl finished with concurrency {}:\n{}", concurrency, report.toTable());
+        return report;
+    }
+
+    private InFlight begin(Task task) {
+        Page page = BrowserManager.openSiblingPage();
+        InFlight running = new InFlight(task, page);
+        page.onConsoleMessage(message -> {
+            if ("error".equals(message.type())) {
+                running.consoleErrors.add(message.text());
+            }
+        });
+        page.onPageError(running.pageErrors::add);
+        try {
+            running.response = page.navigate(task.url(), new Page.NavigateOptions().setWaitUntil(WaitUntilState.COMMIT));
+        } catch (PlaywrightException e) {
+            running.error = firstLine(e.getMessage());
+        }
+        return running;
+    }
+
+    private void finish(InFlight running, URI origin, Deque<Task> frontier) {
+        Task task = running.task;
+        if (running.error == null) {
+            try {
+                running.page.waitForLoadState(LoadState.LOAD);
+            } catch (PlaywrightException e) {
+                running.error = firstLine(e.getMessage());
+            }
+        }
+
+        if (task.isClick()) {
+            if (running.error == null) {
+                followClick(running, origin, frontier);
+            }
+            return;
+        }
+
+        long loadMillis = running.error == null ? ((Number) running.page.evaluate(LOAD_TIME_SCRIPT)).longValue() : -1;
+        int status = running.response == null ? 0 : running.response.status();
+        RouteReport route = new RouteReport(task.url(), task.referrer(), status, loadMillis, running.error,
+                new ArrayList<>(running.consoleErrors), new ArrayList<>(running.pageErrors));
+        routes.put(task.url(), route);
+        logger.debug("Crawled {} ({} in {}ms)", task.url(), status, loadMillis);
+        if (route.isBroken()) {
+            return;
+        }
+
+        Map<?, ?> found = (Map<?, ?>) running.page.evaluate(DISCOVER_SCRIPT, excludePattern);
+        for (Object link : (List<?>) found.get("links")) {
+            enqueue(String.valueOf(link), task.url(), origin, frontier);
+        }
+        for (Object selector : (List<?>) found.get("clickables")) {
+            // Each clickable is probed once per route it appears on
+            if (probedClicks.add(task.url() + " " + selector)) {
+                frontier.add(new Task(task.url(), task.url(), String.valueOf(selector)));
+            }
+        }
+    }
+
+    private void followClick(InFlight running, URI origin, Deque<Task> frontier) {
+        Page page = running.page;
+        String before = page.url();
+        // Errors up to here came from loading the route itself, which its own report already holds
+        int consoleBefore = running.consoleErrors.size();
+        int pageBefore = running.pageErrors.size();
+        try {
+            page.locator(running.task.clickSelector()).first().click(new Locator.ClickOptions()
+                    .setTimeout(CLICK_TIMEOUT_MS));
+            page.waitForURL(url -> !url.equals(before), new Page.WaitForURLOptions()
+                    .setTimeout(CLICK_TIMEOUT_MS).setWaitUntil(WaitUntilState.COMMIT));
+            enqueue(page.url(), running.task.url(), origin, frontier);
+        } catch (PlaywrightException e) {
+            // Buttons that change state in place (sorting, menus) do not navigate
+            logger.debug("Click on {} at {} did not navigate: {}", running.task.clickSelector(), before, firstLine(e.getMessage()));
+        }
+        routes.computeIfPresent(running.task.url(), (url, route) -> route.withClickErrors(running.task.clickSelector(),
+                running.consoleErrors.subList(consoleBefore, running.consoleErrors.size()),
+                running.pageErrors.subList(pageBefore, running.pageErrors.size())));
+    }
+
+    private void enqueue(String link, String referrer, URI origin, Deque<Task> frontier) {
+        URI uri;
+        try {
+            uri = URI.create(link);
+        } catch (IllegalArgumentException e) {
+            logger.debug("Ignoring malformed link {} on {}", link, referrer);
+            return;
+        }
+        if (!"http".equals(uri.getScheme()) && !"https".equals(uri.getScheme())) {
+            return;
+        }
+        if (!origin.getHost().equalsIgnoreCase(uri.getHost())) {
+            externalLinks.add(link);
+            return;
+        }
+        String url = normalize(link);
+        if (visited.size() >= maxRoutes) {
+            return;
+        }
+        if (visited.add(url)) {
+            frontier.add(new Task(url, referrer, null));
+        }
+    }
+
+    private static String normalize(String url) {
+        int fragment = url.indexOf('#');
+        return fragment < 0 ? url : url.substring(0, fragment);
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "unknown error";
+        }
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+
+    private static void closeQuietly(Page page) {
+        try {
+            page.close();
+        } catch (Exception e) {
+            logger.debug("Could not close crawler page: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.saucedemo.flow;
+
+import com.saucedemo.pages.BasePage;
+import com.saucedemo.utils.BrowserManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Declarative setup prefix shared by several tests, e.g. "log in, add the backpack, open the cart". Flows
+ * are immutable and extend each other with {@link #then}, so they form a prefix tree. The first test that
+ * {@link #enter()}s a flow walks its steps through the UI and snapshots the context's storage state and URL
+ * at the end of every flow on the way. Later tests create their context from the deepest fresh snapshot
+ * ({@link #storageState()}, called during setup) and walk only the steps below it. Every test keeps its own
+ * context, JUnit lifecycle and evidence; a snapshot only replaces steps, never a running context.
+ * Snapshots expire well before the site's session cookie, after which the next test walks the UI again.
+ */
+public final class Flow<P extends BasePage> {
+    private static final Logger logger = LoggerFactory.getLogger(Flow.class);
+    private static final Duration MAX_AGE = Duration.ofMinutes(5);
+
+    private record Snapshot(String storageState, String url, Instant capturedAt) {
+    }
+
+    private record Resumed(Flow<?> flow, String url) {
+    }
+
+    private static final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    // Flow whose snapshot this thread's context was created from, until enter() resumes there
+    private static final ThreadLocal<Resumed> resumedThreadLocal = new ThreadLocal<>();
+
+    private final String name;
+    private final Flow<?> parent;
+    private final Supplier<P> steps;
+    private final Supplier<P> resumePage;
+
+    private Flow(String name, Flow<?> parent, Supplier<P> steps, Supplier<P> resumePage) {
+        this.name = name;
+        this.parent = parent;
+        this.steps = steps;
+        this.resumePage = resumePage;
+    }
+
+    /**
+     * Starts a flow whose steps run from the page the test setup opened (the login page).
+     * {@code resumePage} creates the page object for the flow's end page when resuming from a snapshot.
+     */
+    public static <P extends BasePage> Flow<P> start(String name, Supplier<P> steps, Supplier<P> resumePage) {
+        return new Flow<>(name, null, steps, resumePage);
+    }
+
+    /**
+     * Extends this flow by one step; the name must be unique, as snapshots are stored under it.
+     */
+    public <Q extends BasePage> Flow<Q> then(String name, Function<? super P, Q> step, Supplier<Q> resumePage) {
+        return new Flow<>(name, this, () -> step.apply(enter()), resumePage);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Storage state to create this thread's context from: the deepest fresh snapshot along this flow, or null
+     * when there is none yet. Remembers which flow it belongs to, so {@link #enter()} resumes there.
+     */
+    public String storageState() {
+        for (Flow<?> flow = this; flow != null; flow = flow.parent) {
+            Snapshot snapshot = snapshots.get(flow.name);
+            if (snapshot != null && snapshot.capturedAt().plus(MAX_AGE).isAfter(Instant.now())) {
+                resumedThreadLocal.set(new Resumed(flow, snapshot.url()));
+                logger.info("Context for flow '{}' starts from the snapshot of '{}'", name, flow.name);
+                return snapshot.storageState();
+            }
+        }
+        resumedThreadLocal.remove();
+        return null;
+    }
+
+    /**
+     * Forgets a snapshot remembered by {@link #storageState()} that no test entered, e.g. for a test without a flow.
+     */
+    public static void clearResumed() {
+        resumedThreadLocal.remove();
+    }
+
+    /**
+     * Brings the browser to the end of this flow: opens the snapshot URL when the context was created from this
+     * flow's snapshot, and otherwise walks the steps (resuming from a parent's snapshot where possible).
+     */
+    public P enter() {
+        Resumed resumed = resumedThreadLocal.get();
+        if (resumed != null && resumed.flow() == this) {
+            resumedThreadLocal.remove();
+            P page = resumePage.get();
+            page.navigateTo(resumed.url());
+            logger.info("Resumed flow '{}' at {}", name, resumed.url());
+            return page;
+        }
+        P page = steps.get();
+        snapshots.put(name, new Snapshot(BrowserManager.getContext().storageState(),
+                BrowserManager.getPage().url(), Instant.now()));
+        logger.info("Walked flow '{}' and captured its snapshot", name);
+        return page;
+    }
+}
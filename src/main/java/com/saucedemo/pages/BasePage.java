@@ -1,24 +1,172 @@
 package com.saucedemo.pages;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.TimeoutError;
+import com.microsoft.playwright.options.ScreenshotAnimations;
+import com.microsoft.playwright.options.ScreenshotCaret;
+import com.microsoft.playwright.options.ScreenshotScale;
+import com.microsoft.playwright.options.ScreenshotType;
+import com.microsoft.playwright.options.WaitUntilState;
 import com.saucedemo.utils.BrowserManager;
+import com.saucedemo.utils.NavigationTimings;
+import com.saucedemo.visual.DiffResult;
+import com.saucedemo.visual.VisualBaselines;
+import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
+import io.qameta.allure.model.Parameter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 public abstract class BasePage {
     protected static final Logger logger = LoggerFactory.getLogger(BasePage.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final String PROBE_CALL_SCRIPT = """
+            name => window.__sauceProbe ? JSON.stringify(window.__sauceProbe[name]()) : null
+            """;
+
+    // Mirrors Playwright's actionability rules: visible means a non-empty box and no visibility:hidden
+    private static final String ELEMENT_CHECK_SCRIPT = """
+            checks => checks.map(check => {
+                const el = document.querySelector(check.selector);
+                const visible = !!el && (() => {
+                    const rect = el.getBoundingClientRect();
+                    return rect.width > 0 && rect.height > 0
+                        && getComputedStyle(el).visibility !== 'hidden';
+                })();
+                switch (check.state) {
+                    case 'ATTACHED': return !!el;
+                    case 'VISIBLE': return visible;
+                    case 'HIDDEN': return !visible;
+                    case 'ENABLED': return !!el && !el.disabled && !el.closest('fieldset[disabled]');
+                    default: return false;
+                }
+            })
+            """;
+
+    // Clicks every matched element in one task so React sees them as separate discrete events
+    private static final String BULK_CLICK_SCRIPT = """
+            ({ selectors, counterSelector }) => {
+                const counter = counterSelector ? document.querySelector(counterSelector) : null;
+                const before = counter ? (parseInt(counter.textContent, 10) || 0) : 0;
+                const clicked = [];
+                const failed = [];
+                for (const selector of selectors) {
+                    const el = document.querySelector(selector);
+                    if (!el || el.disabled) {
+                        failed.push(selector);
+                        continue;
+                    }
+                    try {
+                        el.click();
+                        clicked.push(selector);
+                    } catch (e) {
+                        failed.push(selector);
+                    }
+                }
+                return { before, clicked, failed };
+            }
+            """;
+
+    private static final String COUNTER_VALUE_SCRIPT = """
+            ({ counterSelector, expected }) => {
+                const counter = document.querySelector(counterSelector);
+                return (counter ? (parseInt(counter.textContent, 10) || 0) : 0) === expected;
+            }
+            """;
+
+    // Uses the native value setter so React-controlled inputs pick up the change from the input event
+    private static final String FORM_FILL_SCRIPT = """
+            fields => fields.map(({ selector, value }) => {
+                const el = document.querySelector(selector);
+                if (!el) return 'element not found';
+                if (el.disabled || el.readOnly) return 'element is not editable';
+                const proto = el instanceof HTMLTextAreaElement
+                    ? HTMLTextAreaElement.prototype
+                    : HTMLInputElement.prototype;
+                el.focus();
+                Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, value);
+                el.dispatchEvent(new Event('input', { bubbles: true }));
+                el.dispatchEvent(new Event('change', { bubbles: true }));
+                return el.value === value ? null : 'value was not applied';
+            })
+            """;
+
+    // getAnimations() flushes style, so a transition started by the last click is already visible here
+    private static final String ANIMATIONS_SETTLED_SCRIPT = """
+            ({ selector, attribute, expected }) => {
+                const el = document.querySelector(selector);
+                if (!el) return false;
+                if (attribute && el.getAttribute(attribute) !== expected) return false;
+                return el.getAnimations({ subtree: true })
+                    .every(animation => animation.playState !== 'running' && animation.playState !== 'pending');
+            }
+            """;
+
+    // Resolves once every contract selector is visible, with the document's readyState and, on the page's
+    // own clock, its time origin and the moment it became ready
+    private static final String READINESS_SCRIPT = """
+            selectors => selectors.every(selector => {
+                const el = document.querySelector(selector);
+                if (!el) return false;
+                const rect = el.getBoundingClientRect();
+                return rect.width > 0 && rect.height > 0 && getComputedStyle(el).visibility !== 'hidden';
+            }) && [document.readyState, performance.timeOrigin, performance.now()]
+            """;
+
+    private static final double BULK_CONFIRM_TIMEOUT_MS = 2000;
+
     protected final Page page;
 
     public BasePage() {
-        this.page = BrowserManager.getPage();
+        this(BrowserManager.getPage());
+    }
+
+    /**
+     * Binds the page object to a page other than the thread's main page, e.g. a sibling tab.
+     */
+    protected BasePage(Page page) {
+        this.page = page;
+    }
+
+    protected abstract ReadinessContract readinessContract();
+
+    @Step("Navigate to: {url}")
+    public void navigateTo(String url) {
+        // The document being left is measured while its load timing can still be read
+        NavigationTimings.settle(page);
+        long start = System.nanoTime();
+        // Commit is enough; the readiness contract decides when the page is usable
+        page.navigate(url, new Page.NavigateOptions().setWaitUntil(WaitUntilState.COMMIT));
+        List<?> readiness = waitForReadinessContract();
+        NavigationTimings.recordReady(page, getClass().getSimpleName(), (System.nanoTime() - start) / 1_000_000,
+                "complete".equals(readiness.get(0)), ((Number) readiness.get(1)).doubleValue(),
+                ((Number) readiness.get(2)).doubleValue());
     }
 
     @Step("Wait for page to load")
     public void waitForPageLoad() {
-        page.waitForLoadState();
-        logger.info("Page loaded: {}", page.url());
+        waitForReadinessContract();
+        logger.info("Page ready: {}", page.url());
+    }
+
+    private List<?> waitForReadinessContract() {
+        ReadinessContract contract = readinessContract();
+        page.waitForURL(contract.getUrlPattern(),
+                new Page.WaitForURLOptions().setWaitUntil(WaitUntilState.COMMIT));
+        List<?> readiness = (List<?>) page.waitForFunction(READINESS_SCRIPT, contract.getSelectors()).jsonValue();
+        logger.debug("Readiness contract met for {} ({}): {}", getClass().getSimpleName(), readiness.get(0), contract);
+        return readiness;
     }
 
     @Step("Get page title")
@@ -35,6 +183,30 @@ public abstract class BasePage {
         return url;
     }
 
+    @Step("Compare page with visual baseline: {baselineName}")
+    public DiffResult compareWithBaseline(String baselineName) {
+        DiffResult result = VisualBaselines.compare(baselineName, baselineScreenshot());
+        logger.info("Visual comparison '{}': {}", baselineName, result);
+        return result;
+    }
+
+    @Step("Compare page with visual baseline {baselineName} under {baselineDirectory} (update: {update})")
+    public DiffResult compareWithBaseline(Path baselineDirectory, String baselineName, boolean update) {
+        DiffResult result = VisualBaselines.compare(baselineDirectory, baselineName, baselineScreenshot(), update);
+        logger.info("Visual comparison '{}' under {}: {}", baselineName, baselineDirectory, result);
+        return result;
+    }
+
+    // Lossless and stable: PNG at CSS scale, animations finished and the caret hidden
+    private byte[] baselineScreenshot() {
+        return page.screenshot(new Page.ScreenshotOptions()
+                .setFullPage(true)
+                .setType(ScreenshotType.PNG)
+                .setScale(ScreenshotScale.CSS)
+                .setAnimations(ScreenshotAnimations.DISABLED)
+                .setCaret(ScreenshotCaret.HIDE));
+    }
+
     @Step("Click element: {locatorDescription}")
     protected void click(Locator locator, String locatorDescription) {
         locator.click();
@@ -92,4 +264,147 @@ public abstract class BasePage {
         locator.scrollIntoViewIfNeeded();
         logger.info("Scrolled element '{}' into view", locatorDescription);
     }
+
+    @Step("Check elements: {description}")
+    protected ElementCheckResult checkElements(String description, ElementCheck... checks) {
+        List<ElementCheck> checkList = Arrays.asList(checks);
+        List<Map<String, Object>> arguments = new ArrayList<>();
+        for (ElementCheck check : checkList) {
+            arguments.add(check.toScriptArgument());
+        }
+
+        List<Boolean> outcomes = new ArrayList<>();
+        Object evaluated = page.evaluate(ELEMENT_CHECK_SCRIPT, arguments);
+        if (evaluated instanceof List<?> values) {
+            for (Object value : values) {
+                outcomes.add(Boolean.TRUE.equals(value));
+            }
+        }
+
+        ElementCheckResult result = new ElementCheckResult(checkList, outcomes);
+        logger.info("Element checks '{}': {}", description, result);
+        return result;
+    }
+
+    @Step("Click elements in one pass: {description}")
+    protected BulkClickResult clickAllInPage(String description, List<String> selectors, String counterSelector) {
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("selectors", selectors);
+        arguments.put("counterSelector", counterSelector);
+
+        Map<?, ?> evaluated = (Map<?, ?>) page.evaluate(BULK_CLICK_SCRIPT, arguments);
+        BulkClickResult result = new BulkClickResult(
+                ((Number) evaluated.get("before")).intValue(),
+                toStringList(evaluated.get("clicked")),
+                toStringList(evaluated.get("failed")));
+        logger.info("Bulk click '{}': {}", description, result);
+        return result;
+    }
+
+    @Step("Wait for counter '{description}' to show {expected}")
+    protected boolean waitForCounterValue(String counterSelector, int expected, String description) {
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("counterSelector", counterSelector);
+        arguments.put("expected", expected);
+        try {
+            page.waitForFunction(COUNTER_VALUE_SCRIPT, arguments,
+                    new Page.WaitForFunctionOptions().setTimeout(BULK_CONFIRM_TIMEOUT_MS));
+            logger.info("Counter '{}' shows expected value: {}", description, expected);
+            return true;
+        } catch (TimeoutError e) {
+            logger.warn("Counter '{}' did not reach expected value {} within {}ms",
+                    description, expected, BULK_CONFIRM_TIMEOUT_MS);
+            return false;
+        }
+    }
+
+    @Step("Wait for condition: {description}")
+    protected void waitForCondition(String description, String predicateScript, Object argument) {
+        long start = System.currentTimeMillis();
+        // Without a polling interval Playwright re-evaluates the predicate on every animation frame
+        page.waitForFunction(predicateScript, argument);
+        logger.info("Condition '{}' met after {}ms", description, System.currentTimeMillis() - start);
+    }
+
+    @Step("Wait for element to settle: {description}")
+    protected void waitForAnimationsToFinish(String selector, String attribute, String expectedValue,
+                                             String description) {
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("selector", selector);
+        arguments.put("attribute", attribute);
+        arguments.put("expected", expectedValue);
+        waitForCondition(description, ANIMATIONS_SETTLED_SCRIPT, arguments);
+    }
+
+    public PageTransaction transaction(String description) {
+        return new PageTransaction(page, description);
+    }
+
+    @Step("Read page state via probe: {probeName}")
+    protected <T> T probe(String probeName, Class<T> type) {
+        Object json = page.evaluate(PROBE_CALL_SCRIPT, probeName);
+        if (json == null) {
+            // Documents loaded before the context registered the probes (or about:blank) need a manual install
+            logger.debug("Probe library not present on {}, installing it", page.url());
+            page.addScriptTag(new Page.AddScriptTagOptions().setContent(BrowserManager.getProbeScript()));
+            json = page.evaluate(PROBE_CALL_SCRIPT, probeName);
+        }
+        if (json == null) {
+            throw new IllegalStateException("Probe '" + probeName + "' is not available on " + page.url());
+        }
+        try {
+            T snapshot = objectMapper.readValue(json.toString(), type);
+            logger.info("Probe '{}': {}", probeName, snapshot);
+            return snapshot;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read result of probe '" + probeName + "'", e);
+        }
+    }
+
+    protected static String idSelector(String id) {
+        return "[id=\"" + id.replace("\"", "\\\"") + "\"]";
+    }
+
+    // Product buttons are id'd by the lower-cased, dash-separated product name, e.g. add-to-cart-sauce-labs-backpack
+    protected static String toButtonSuffix(String productName) {
+        return productName.toLowerCase().replace(" ", "-");
+    }
+
+    @Step("Fill form: {formDescription}")
+    protected void fillForm(String formDescription, Map<FormField, String> values) {
+        List<FormField> fields = new ArrayList<>(values.keySet());
+        List<Map<String, Object>> arguments = new ArrayList<>();
+        for (FormField field : fields) {
+            Map<String, Object> argument = new HashMap<>();
+            argument.put("selector", field.getSelector());
+            argument.put("value", values.get(field));
+            arguments.add(argument);
+        }
+
+        List<?> errors = (List<?>) page.evaluate(FORM_FILL_SCRIPT, arguments);
+        for (int i = 0; i < fields.size(); i++) {
+            FormField field = fields.get(i);
+            String value = values.get(field);
+            Object error = i < errors.size() ? errors.get(i) : "no result";
+            if (error != null) {
+                // Let Playwright's actionability checks fill the field and report any real failure
+                logger.warn("In-page fill of '{}' failed ({}), falling back to Playwright fill",
+                        field.getDescription(), error);
+                page.locator(field.getSelector()).fill(value);
+            }
+            Allure.getLifecycle().updateStep(step -> step.getParameters()
+                    .add(new Parameter().setName(field.getDescription()).setValue(value)));
+        }
+        logger.info("Filled form '{}' with {} fields: {}", formDescription, fields.size(), fields);
+    }
+
+    private static List<String> toStringList(Object value) {
+        List<String> strings = new ArrayList<>();
+        if (value instanceof List<?> values) {
+            for (Object item : values) {
+                strings.add(String.valueOf(item));
+            }
+        }
+        return strings;
+    }
 }
@@ -0,0 +1,42 @@
+package com.saucedemo.pages;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of {@link BasePage#clickAllInPage(String, List, String)}: the counter value read
+ * before any click was dispatched and the selectors that could not be clicked.
+ */
+public final class BulkClickResult {
+
+    private final int counterBefore;
+    private final List<String> clicked;
+    private final List<String> failed;
+
+    BulkClickResult(int counterBefore, List<String> clicked, List<String> failed) {
+        this.counterBefore = counterBefore;
+        this.clicked = Collections.unmodifiableList(clicked);
+        this.failed = Collections.unmodifiableList(failed);
+    }
+
+    public int getCounterBefore() {
+        return counterBefore;
+    }
+
+    public List<String> getClicked() {
+        return clicked;
+    }
+
+    public List<String> getFailed() {
+        return failed;
+    }
+
+    public boolean isComplete() {
+        return failed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "clicked " + clicked.size() + ", failed " + failed + ", counter before " + counterBefore;
+    }
+}
@@ -2,27 +2,38 @@ package com.saucedemo.pages;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.saucedemo.pages.probe.CartSnapshot;
 import io.qameta.allure.Step;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ArrayList;
 
 public class CartPage extends BasePage {
 
+    // Selectors
+    private static final String CART_HEADER = ".title";
+    private static final String SHOPPING_CART_BADGE = ".shopping_cart_badge";
+
     // Cart elements
-    private final Locator cartHeader = page.locator(".title");
+    private final Locator cartHeader = page.locator(CART_HEADER);
     private final Locator continueShoppingButton = page.locator("[data-test='continue-shopping']");
     private final Locator checkoutButton = page.locator("[data-test='checkout']");
     private final Locator cartItems = page.locator(".cart_item");
-    private final Locator cartItemNames = page.locator(".inventory_item_name");
-    private final Locator cartItemPrices = page.locator(".inventory_item_price");
 
     // Header elements
-    private final Locator shoppingCartBadge = page.locator(".shopping_cart_badge");
+    private final Locator shoppingCartBadge = page.locator(SHOPPING_CART_BADGE);
+
+    @Override
+    protected ReadinessContract readinessContract() {
+        return ReadinessContract.of(".*/cart\\.html.*", CART_HEADER);
+    }
 
     @Step("Check if cart page is loaded")
     public boolean isCartPageLoaded() {
-        return isVisible(cartHeader, "Cart header") &&
+        return checkElements("Cart page",
+                ElementCheck.visible("Cart header", CART_HEADER)).isSatisfied() &&
                getCurrentUrl().contains("/cart.html");
     }
 
@@ -43,24 +54,21 @@ public class CartPage extends BasePage {
         return getCartItemCount() == 0;
     }
 
+    @Step("Get cart snapshot")
+    public CartSnapshot getCartSnapshot() {
+        return probe("snapshotCart", CartSnapshot.class);
+    }
+
     @Step("Get all item names in cart")
     public List<String> getCartItemNames() {
-        List<String> names = new ArrayList<>();
-        int count = cartItemNames.count();
-        for (int i = 0; i < count; i++) {
-            names.add(cartItemNames.nth(i).textContent());
-        }
+        List<String> names = getCartSnapshot().itemNames();
         logger.info("Cart item names: {}", names);
         return names;
     }
 
     @Step("Get all item prices in cart")
     public List<String> getCartItemPrices() {
-        List<String> prices = new ArrayList<>();
-        int count = cartItemPrices.count();
-        for (int i = 0; i < count; i++) {
-            prices.add(cartItemPrices.nth(i).textContent());
-        }
+        List<String> prices = getCartSnapshot().itemPrices();
         logger.info("Cart item prices: {}", prices);
         return prices;
     }
@@ -77,12 +85,48 @@ public class CartPage extends BasePage {
 
     @Step("Remove item from cart by name: {itemName}")
     public CartPage removeItemFromCart(String itemName) {
-        String buttonId = "remove-" + itemName.toLowerCase().replace(" ", "-");
-        Locator removeButton = page.locator("#" + buttonId);
+        Locator removeButton = page.locator(idSelector("remove-" + toButtonSuffix(itemName)));
         click(removeButton, "Remove button for " + itemName);
         return this;
     }
 
+    @Step("Remove items from cart: {itemNames}")
+    public CartPage removeItemsFromCart(Collection<String> itemNames) {
+        List<String> names = new ArrayList<>(new LinkedHashSet<>(itemNames));
+        if (names.isEmpty()) {
+            return this;
+        }
+
+        List<String> removeSelectors = new ArrayList<>();
+        for (String name : names) {
+            removeSelectors.add(idSelector("remove-" + toButtonSuffix(name)));
+        }
+
+        BulkClickResult result = clickAllInPage("Cart remove buttons", removeSelectors, SHOPPING_CART_BADGE);
+        int expectedCount = Math.max(0, result.getCounterBefore() - names.size());
+        if (result.isComplete() && waitForCounterValue(SHOPPING_CART_BADGE, expectedCount, "Shopping cart badge")) {
+            return this;
+        }
+
+        // The app did not confirm every removal; retry the items still present one by one
+        logger.warn("Bulk remove from cart not confirmed ({}), falling back to per-item actions", result);
+        for (String name : itemsStillInCart(names)) {
+            removeItemFromCart(name);
+        }
+        return this;
+    }
+
+    private List<String> itemsStillInCart(List<String> itemNames) {
+        ElementCheck[] checks = new ElementCheck[itemNames.size()];
+        for (int i = 0; i < itemNames.size(); i++) {
+            String name = itemNames.get(i);
+            checks[i] = ElementCheck.attached(name, idSelector("remove-" + toButtonSuffix(name)));
+        }
+        return checkElements("Items in cart", checks).getPassed().stream()
+                .map(ElementCheck::getDescription)
+                .toList();
+    }
+
     @Step("Check if item exists in cart: {itemName}")
     public boolean isItemInCart(String itemName) {
         List<String> itemNames = getCartItemNames();
@@ -137,10 +181,6 @@ public class CartPage extends BasePage {
 
     @Step("Remove all items from cart")
     public CartPage removeAllItems() {
-        List<String> itemNames = getCartItemNames();
-        for (String itemName : itemNames) {
-            removeItemFromCart(itemName);
-        }
-        return this;
+        return removeItemsFromCart(getCartSnapshot().itemNames());
     }
 }
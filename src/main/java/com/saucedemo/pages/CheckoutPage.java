@@ -2,27 +2,42 @@ package com.saucedemo.pages;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.saucedemo.pages.probe.CheckoutSummarySnapshot;
+import com.saucedemo.pages.probe.FormErrorsSnapshot;
 import io.qameta.allure.Step;
 
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.ArrayList;
+import java.util.Map;
 
 public class CheckoutPage extends BasePage {
 
+    // Selectors
+    private static final String FIRST_NAME_FIELD = "[data-test='firstName']";
+    private static final String LAST_NAME_FIELD = "[data-test='lastName']";
+    private static final String POSTAL_CODE_FIELD = "[data-test='postalCode']";
+    private static final String FINISH_BUTTON = "[data-test='finish']";
+    private static final String COMPLETE_HEADER = ".complete-header";
+    private static final String CHECKOUT_TITLE = ".title";
+
+    // Form fields
+    private static final FormField FIRST_NAME = FormField.of("First name field", FIRST_NAME_FIELD);
+    private static final FormField LAST_NAME = FormField.of("Last name field", LAST_NAME_FIELD);
+    private static final FormField POSTAL_CODE = FormField.of("Postal code field", POSTAL_CODE_FIELD);
+
     // Checkout information form elements
-    private final Locator checkoutTitle = page.locator(".title");
-    private final Locator firstNameField = page.locator("[data-test='firstName']");
-    private final Locator lastNameField = page.locator("[data-test='lastName']");
-    private final Locator postalCodeField = page.locator("[data-test='postalCode']");
+    private final Locator checkoutTitle = page.locator(CHECKOUT_TITLE);
+    private final Locator firstNameField = page.locator(FIRST_NAME_FIELD);
+    private final Locator lastNameField = page.locator(LAST_NAME_FIELD);
+    private final Locator postalCodeField = page.locator(POSTAL_CODE_FIELD);
     private final Locator continueButton = page.locator("[data-test='continue']");
     private final Locator cancelButton = page.locator("[data-test='cancel']");
     private final Locator errorMessage = page.locator("[data-test='error']");
     private final Locator errorButton = page.locator(".error-button");
 
     // Checkout overview elements
-    private final Locator finishButton = page.locator("[data-test='finish']");
+    private final Locator finishButton = page.locator(FINISH_BUTTON);
     private final Locator cartItems = page.locator(".cart_item");
-    private final Locator cartItemNames = page.locator(".inventory_item_name");
     private final Locator paymentInformation = page.locator("[data-test='payment-info-value']");
     private final Locator shippingInformation = page.locator("[data-test='shipping-info-value']");
     private final Locator itemTotal = page.locator(".summary_subtotal_label");
@@ -30,26 +45,34 @@ public class CheckoutPage extends BasePage {
     private final Locator total = page.locator(".summary_total_label");
 
     // Checkout complete elements
-    private final Locator completeHeader = page.locator(".complete-header");
+    private final Locator completeHeader = page.locator(COMPLETE_HEADER);
     private final Locator completeText = page.locator(".complete-text");
     private final Locator backHomeButton = page.locator("[data-test='back-to-products']");
 
+    @Override
+    protected ReadinessContract readinessContract() {
+        return ReadinessContract.of(".*/checkout-(step-one|step-two|complete)\\.html.*", CHECKOUT_TITLE);
+    }
+
     @Step("Check if checkout information page is loaded")
     public boolean isCheckoutInformationPageLoaded() {
         return getCurrentUrl().contains("/checkout-step-one.html") &&
-               isVisible(firstNameField, "First name field");
+               checkElements("Checkout information page",
+                       ElementCheck.visible("First name field", FIRST_NAME_FIELD)).isSatisfied();
     }
 
     @Step("Check if checkout overview page is loaded")
     public boolean isCheckoutOverviewPageLoaded() {
         return getCurrentUrl().contains("/checkout-step-two.html") &&
-               isVisible(finishButton, "Finish button");
+               checkElements("Checkout overview page",
+                       ElementCheck.visible("Finish button", FINISH_BUTTON)).isSatisfied();
     }
 
     @Step("Check if checkout complete page is loaded")
     public boolean isCheckoutCompletePageLoaded() {
         return getCurrentUrl().contains("/checkout-complete.html") &&
-               isVisible(completeHeader, "Complete header");
+               checkElements("Checkout complete page",
+                       ElementCheck.visible("Complete header", COMPLETE_HEADER)).isSatisfied();
     }
 
     @Step("Get checkout page title")
@@ -77,9 +100,11 @@ public class CheckoutPage extends BasePage {
 
     @Step("Fill checkout information - First Name: {firstName}, Last Name: {lastName}, Postal Code: {postalCode}")
     public CheckoutPage fillCheckoutInformation(String firstName, String lastName, String postalCode) {
-        enterFirstName(firstName);
-        enterLastName(lastName);
-        enterPostalCode(postalCode);
+        Map<FormField, String> values = new LinkedHashMap<>();
+        values.put(FIRST_NAME, firstName);
+        values.put(LAST_NAME, lastName);
+        values.put(POSTAL_CODE, postalCode);
+        fillForm("Checkout information", values);
         return this;
     }
 
@@ -116,13 +141,19 @@ public class CheckoutPage extends BasePage {
         return this;
     }
 
+    @Step("Get form errors")
+    public FormErrorsSnapshot getFormErrors() {
+        return probe("formErrors", FormErrorsSnapshot.class);
+    }
+
+    @Step("Get checkout summary snapshot")
+    public CheckoutSummarySnapshot getCheckoutSummarySnapshot() {
+        return probe("snapshotCheckoutSummary", CheckoutSummarySnapshot.class);
+    }
+
     @Step("Get cart items in checkout overview")
     public List<String> getCheckoutItemNames() {
-        List<String> names = new ArrayList<>();
-        int count = cartItemNames.count();
-        for (int i = 0; i < count; i++) {
-            names.add(cartItemNames.nth(i).textContent());
-        }
+        List<String> names = getCheckoutSummarySnapshot().itemNames();
         logger.info("Checkout item names: {}", names);
         return names;
     }
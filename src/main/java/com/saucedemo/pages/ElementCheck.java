@@ -0,0 +1,68 @@
+package com.saucedemo.pages;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Expected state of a single element, evaluated together with other checks
+ * in one in-page call by {@link BasePage#checkElements(String, ElementCheck...)}.
+ */
+public final class ElementCheck {
+
+    public enum State {
+        ATTACHED,
+        VISIBLE,
+        HIDDEN,
+        ENABLED
+    }
+
+    private final String description;
+    private final String selector;
+    private final State state;
+
+    private ElementCheck(String description, String selector, State state) {
+        this.description = description;
+        this.selector = selector;
+        this.state = state;
+    }
+
+    public static ElementCheck attached(String description, String selector) {
+        return new ElementCheck(description, selector, State.ATTACHED);
+    }
+
+    public static ElementCheck visible(String description, String selector) {
+        return new ElementCheck(description, selector, State.VISIBLE);
+    }
+
+    public static ElementCheck hidden(String description, String selector) {
+        return new ElementCheck(description, selector, State.HIDDEN);
+    }
+
+    public static ElementCheck enabled(String description, String selector) {
+        return new ElementCheck(description, selector, State.ENABLED);
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getSelector() {
+        return selector;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    Map<String, Object> toScriptArgument() {
+        Map<String, Object> argument = new LinkedHashMap<>();
+        argument.put("selector", selector);
+        argument.put("state", state.name());
+        return argument;
+    }
+
+    @Override
+    public String toString() {
+        return description + " [" + state + "]";
+    }
+}
@@ -0,0 +1,52 @@
+package com.saucedemo.pages;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a batch of {@link ElementCheck}s, keeping the checks that were not satisfied.
+ */
+public final class ElementCheckResult {
+
+    private final List<ElementCheck> passed;
+    private final List<ElementCheck> failed;
+
+    ElementCheckResult(List<ElementCheck> checks, List<Boolean> outcomes) {
+        List<ElementCheck> passedChecks = new ArrayList<>();
+        List<ElementCheck> failedChecks = new ArrayList<>();
+        for (int i = 0; i < checks.size(); i++) {
+            boolean ok = i < outcomes.size() && Boolean.TRUE.equals(outcomes.get(i));
+            (ok ? passedChecks : failedChecks).add(checks.get(i));
+        }
+        this.passed = Collections.unmodifiableList(passedChecks);
+        this.failed = Collections.unmodifiableList(failedChecks);
+    }
+
+    public boolean isSatisfied() {
+        return failed.isEmpty();
+    }
+
+    public List<ElementCheck> getPassed() {
+        return passed;
+    }
+
+    public List<ElementCheck> getFailed() {
+        return failed;
+    }
+
+    public List<String> getFailedDescriptions() {
+        List<String> descriptions = new ArrayList<>();
+        for (ElementCheck check : failed) {
+            descriptions.add(check.getDescription());
+        }
+        return descriptions;
+    }
+
+    @Override
+    public String toString() {
+        return isSatisfied()
+                ? "all " + passed.size() + " checks passed"
+                : failed.size() + " of " + (passed.size() + failed.size()) + " checks failed: " + failed;
+    }
+}
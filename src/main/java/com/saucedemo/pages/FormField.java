@@ -0,0 +1,50 @@
+package com.saucedemo.pages;
+
+import java.util.Objects;
+
+/**
+ * Input field addressed by {@link BasePage#fillForm(String, java.util.Map)}.
+ */
+public final class FormField {
+
+    private final String description;
+    private final String selector;
+
+    private FormField(String description, String selector) {
+        this.description = description;
+        this.selector = selector;
+    }
+
+    public static FormField of(String description, String selector) {
+        return new FormField(description, selector);
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getSelector() {
+        return selector;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FormField other)) {
+            return false;
+        }
+        return selector.equals(other.selector);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(selector);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
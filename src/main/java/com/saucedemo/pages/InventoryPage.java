@@ -2,35 +2,60 @@ package com.saucedemo.pages;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.WaitUntilState;
+import com.saucedemo.catalog.CatalogColumns;
+import com.saucedemo.catalog.ProductCatalog;
+import com.saucedemo.pages.probe.InventorySnapshot;
+import com.saucedemo.pages.probe.ProductDetailsSnapshot;
+import com.saucedemo.pages.probe.ProductSnapshot;
+import com.saucedemo.utils.BrowserManager;
 import io.qameta.allure.Step;
 
+import java.net.URI;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Map;
 
 public class InventoryPage extends BasePage {
 
+    // Selectors
+    private static final String APP_LOGO = ".app_logo";
+    private static final String INVENTORY_CONTAINER = ".inventory_container";
+    private static final String SHOPPING_CART_BADGE = ".shopping_cart_badge";
+    private static final String MENU_WRAP = ".bm-menu-wrap";
+    private static final String SHOPPING_CART_LINK = ".shopping_cart_link";
+    private static final String SORT_DROPDOWN = "[data-test='product_sort_container']";
+    private static final String CART_LIST = ".cart_list";
+
     // Header elements
-    private final Locator appLogo = page.locator(".app_logo");
-    private final Locator shoppingCartLink = page.locator(".shopping_cart_link");
-    private final Locator shoppingCartBadge = page.locator(".shopping_cart_badge");
+    private final Locator appLogo = page.locator(APP_LOGO);
+    private final Locator shoppingCartLink = page.locator(SHOPPING_CART_LINK);
+    private final Locator shoppingCartBadge = page.locator(SHOPPING_CART_BADGE);
     private final Locator menuButton = page.locator("#react-burger-menu-btn");
-    private final Locator sortDropdown = page.locator("[data-test='product_sort_container']");
+    private final Locator sortDropdown = page.locator(SORT_DROPDOWN);
 
     // Product elements
-    private final Locator inventoryContainer = page.locator(".inventory_container");
+    private final Locator inventoryContainer = page.locator(INVENTORY_CONTAINER);
     private final Locator inventoryItems = page.locator(".inventory_item");
-    private final Locator inventoryItemNames = page.locator(".inventory_item_name");
-    private final Locator inventoryItemPrices = page.locator(".inventory_item_price");
 
     // Menu elements
     private final Locator logoutLink = page.locator("#logout_sidebar_link");
     private final Locator resetAppStateLink = page.locator("#reset_sidebar_link");
     private final Locator closeMenuButton = page.locator("#react-burger-cross-btn");
 
+    @Override
+    protected ReadinessContract readinessContract() {
+        return ReadinessContract.of(".*/inventory\\.html.*", INVENTORY_CONTAINER, APP_LOGO);
+    }
+
     @Step("Check if inventory page is loaded")
     public boolean isInventoryPageLoaded() {
-        return isVisible(inventoryContainer, "Inventory container") &&
-               isVisible(appLogo, "App logo");
+        return checkElements("Inventory page",
+                ElementCheck.visible("Inventory container", INVENTORY_CONTAINER),
+                ElementCheck.visible("App logo", APP_LOGO)).isSatisfied();
     }
 
     @Step("Get app logo text")
@@ -45,44 +70,132 @@ public class InventoryPage extends BasePage {
         return count;
     }
 
+    @Step("Get inventory snapshot")
+    public InventorySnapshot getInventorySnapshot() {
+        return probe("snapshotInventory", InventorySnapshot.class);
+    }
+
+    @Step("Get catalog columns")
+    public CatalogColumns getCatalogColumns() {
+        CatalogColumns columns = CatalogColumns.of(getInventorySnapshot());
+        logger.info("Catalog columns: {}", columns);
+        return columns;
+    }
+
+    @Step("Extract product catalog from inventory")
+    public ProductCatalog extractCatalog(String version) {
+        return ProductCatalog.fromSnapshot(getInventorySnapshot(), version);
+    }
+
+    @Step("Compare inventory against catalog {catalog}")
+    public List<String> findCatalogDrift(ProductCatalog catalog) {
+        List<String> drift = catalog.diff(extractCatalog("live"));
+        logger.info("Catalog {} drift against live inventory: {}", catalog.getVersion(), drift.isEmpty() ? "none" : drift);
+        return drift;
+    }
+
     @Step("Get all product names")
     public List<String> getProductNames() {
-        List<String> names = new ArrayList<>();
-        int count = inventoryItemNames.count();
-        for (int i = 0; i < count; i++) {
-            names.add(inventoryItemNames.nth(i).textContent());
-        }
+        List<String> names = getInventorySnapshot().productNames();
         logger.info("Product names: {}", names);
         return names;
     }
 
     @Step("Get all product prices")
     public List<String> getProductPrices() {
-        List<String> prices = new ArrayList<>();
-        int count = inventoryItemPrices.count();
-        for (int i = 0; i < count; i++) {
-            prices.add(inventoryItemPrices.nth(i).textContent());
-        }
+        List<String> prices = getInventorySnapshot().productPrices();
         logger.info("Product prices: {}", prices);
         return prices;
     }
 
     @Step("Add product to cart by name: {productName}")
     public InventoryPage addProductToCart(String productName) {
-        String buttonId = "add-to-cart-" + productName.toLowerCase().replace(" ", "-");
-        Locator addButton = page.locator("#" + buttonId);
+        Locator addButton = page.locator(idSelector("add-to-cart-" + toButtonSuffix(productName)));
         click(addButton, "Add to cart button for " + productName);
         return this;
     }
 
+    @Step("Add products to cart: {productNames}")
+    public InventoryPage addProductsToCart(Collection<String> productNames) {
+        List<String> names = new ArrayList<>(new LinkedHashSet<>(productNames));
+        if (names.isEmpty()) {
+            return this;
+        }
+
+        List<String> addSelectors = new ArrayList<>();
+        for (String name : names) {
+            addSelectors.add(idSelector("add-to-cart-" + toButtonSuffix(name)));
+        }
+
+        BulkClickResult result = clickAllInPage("Add to cart buttons", addSelectors, SHOPPING_CART_BADGE);
+        int expectedCount = result.getCounterBefore() + names.size();
+        if (result.isComplete() && waitForCounterValue(SHOPPING_CART_BADGE, expectedCount, "Shopping cart badge")) {
+            return this;
+        }
+
+        // The app did not confirm every add; retry the products that are not in the cart one by one
+        logger.warn("Bulk add to cart not confirmed ({}), falling back to per-item actions", result);
+        for (String name : productsNotInCart(names)) {
+            addProductToCart(name);
+        }
+        return this;
+    }
+
     @Step("Remove product from cart by name: {productName}")
     public InventoryPage removeProductFromCart(String productName) {
-        String buttonId = "remove-" + productName.toLowerCase().replace(" ", "-");
-        Locator removeButton = page.locator("#" + buttonId);
+        Locator removeButton = page.locator(idSelector("remove-" + toButtonSuffix(productName)));
         click(removeButton, "Remove button for " + productName);
         return this;
     }
 
+    @Step("Capture details of all products in parallel pages")
+    public Map<String, ProductDetailsSnapshot> captureProductDetails() {
+        return captureProductDetails(getInventorySnapshot().productNames());
+    }
+
+    /**
+     * Opens the detail page of every requested product as a sibling tab of this context and reads them all.
+     * Navigations are only committed one after another, so the pages load concurrently and the total
+     * wait is roughly one detail page load. Results are keyed by inventory name, in inventory order.
+     */
+    @Step("Capture details of products in parallel pages: {productNames}")
+    public Map<String, ProductDetailsSnapshot> captureProductDetails(Collection<String> productNames) {
+        URI inventoryUrl = URI.create(page.url());
+        Map<String, Page> detailPages = new LinkedHashMap<>();
+        try {
+            for (ProductSnapshot product : getInventorySnapshot().products()) {
+                if (!productNames.contains(product.name())) {
+                    continue;
+                }
+                if (product.id() == null) {
+                    throw new IllegalStateException("No detail link id for product: " + product.name());
+                }
+                Page detailPage = BrowserManager.openSiblingPage();
+                detailPages.put(product.name(), detailPage);
+                detailPage.navigate(inventoryUrl.resolve("inventory-item.html?id=" + product.id()).toString(),
+                        new Page.NavigateOptions().setWaitUntil(WaitUntilState.COMMIT));
+            }
+
+            long start = System.currentTimeMillis();
+            Map<String, ProductDetailsSnapshot> details = new LinkedHashMap<>();
+            for (Map.Entry<String, Page> entry : detailPages.entrySet()) {
+                ProductDetailsPage detailsPage = new ProductDetailsPage(entry.getValue());
+                detailsPage.waitForPageLoad();
+                details.put(entry.getKey(), detailsPage.getProductDetailsSnapshot());
+            }
+            logger.info("Captured {} product detail pages in parallel in {}ms", details.size(), System.currentTimeMillis() - start);
+            return details;
+        } finally {
+            for (Page detailPage : detailPages.values()) {
+                try {
+                    detailPage.close();
+                } catch (Exception e) {
+                    logger.warn("Could not close product detail page: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
     @Step("Click on product name: {productName}")
     public ProductDetailsPage clickProductName(String productName) {
         Locator productLink = page.locator(".inventory_item_name", new Page.LocatorOptions().setHasText(productName));
@@ -111,9 +224,14 @@ public class InventoryPage extends BasePage {
         return this;
     }
 
+    public InventoryBatch batch(String description) {
+        return new InventoryBatch(transaction(description));
+    }
+
     @Step("Open menu")
     public InventoryPage openMenu() {
         click(menuButton, "Menu button");
+        waitForAnimationsToFinish(MENU_WRAP, "aria-hidden", "false", "Menu opened");
         return this;
     }
 
@@ -121,10 +239,16 @@ public class InventoryPage extends BasePage {
     public InventoryPage closeMenu() {
         if (isVisible(closeMenuButton, "Close menu button")) {
             click(closeMenuButton, "Close menu button");
+            waitForAnimationsToFinish(MENU_WRAP, "aria-hidden", "true", "Menu closed");
         }
         return this;
     }
 
+    @Step("Check if menu is open")
+    public boolean isMenuOpen() {
+        return "false".equals(getAttribute(page.locator(MENU_WRAP), "aria-hidden", "Menu"));
+    }
+
     @Step("Logout")
     public LoginPage logout() {
         openMenu();
@@ -142,11 +266,19 @@ public class InventoryPage extends BasePage {
 
     @Step("Check if product is in cart: {productName}")
     public boolean isProductInCart(String productName) {
-        String buttonId = "remove-" + productName.toLowerCase().replace(" ", "-");
-        Locator removeButton = page.locator("#" + buttonId);
+        Locator removeButton = page.locator(idSelector("remove-" + toButtonSuffix(productName)));
         return isVisible(removeButton, "Remove button for " + productName);
     }
 
+    private List<String> productsNotInCart(List<String> productNames) {
+        ElementCheck[] checks = new ElementCheck[productNames.size()];
+        for (int i = 0; i < productNames.size(); i++) {
+            String name = productNames.get(i);
+            checks[i] = ElementCheck.attached(name, idSelector("remove-" + toButtonSuffix(name)));
+        }
+        return checkElements("Products in cart", checks).getFailedDescriptions();
+    }
+
     @Step("Get product price by name: {productName}")
     public String getProductPrice(String productName) {
         Locator productContainer = page.locator(".inventory_item")
@@ -164,4 +296,45 @@ public class InventoryPage extends BasePage {
         Locator descElement = productContainer.locator(".inventory_item_desc");
         return getText(descElement, "Description for " + productName);
     }
+
+    /**
+     * Inventory actions recorded into a {@link PageTransaction} and executed in one browser call.
+     */
+    public final class InventoryBatch {
+        private final PageTransaction transaction;
+
+        private InventoryBatch(PageTransaction transaction) {
+            this.transaction = transaction;
+        }
+
+        public InventoryBatch sortProducts(String sortOption) {
+            transaction.select(SORT_DROPDOWN, sortOption, "Sort dropdown");
+            return this;
+        }
+
+        public InventoryBatch addProductToCart(String productName) {
+            transaction.click(idSelector("add-to-cart-" + toButtonSuffix(productName)),
+                    "Add to cart button for " + productName);
+            return this;
+        }
+
+        public InventoryBatch addProductsToCart(Collection<String> productNames) {
+            for (String productName : productNames) {
+                addProductToCart(productName);
+            }
+            return this;
+        }
+
+        public InventoryPage execute() {
+            transaction.execute();
+            return InventoryPage.this;
+        }
+
+        public CartPage openCart() {
+            transaction.click(SHOPPING_CART_LINK, "Shopping cart link")
+                    .waitForSelector(CART_LIST, "Cart list");
+            transaction.execute();
+            return new CartPage();
+        }
+    }
 }
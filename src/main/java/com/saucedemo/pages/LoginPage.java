@@ -1,19 +1,37 @@
 package com.saucedemo.pages;
 
 import com.microsoft.playwright.Locator;
+import com.saucedemo.pages.probe.FormErrorsSnapshot;
 import io.qameta.allure.Step;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public class LoginPage extends BasePage {
     
+    // Selectors
+    private static final String USERNAME_FIELD = "[data-test='username']";
+    private static final String PASSWORD_FIELD = "[data-test='password']";
+    private static final String LOGIN_BUTTON = "[data-test='login-button']";
+
+    // Form fields
+    private static final FormField USERNAME = FormField.of("Username field", USERNAME_FIELD);
+    private static final FormField PASSWORD = FormField.of("Password field", PASSWORD_FIELD);
+
     // Locators
-    private final Locator usernameField = page.locator("[data-test='username']");
-    private final Locator passwordField = page.locator("[data-test='password']");
-    private final Locator loginButton = page.locator("[data-test='login-button']");
+    private final Locator usernameField = page.locator(USERNAME_FIELD);
+    private final Locator passwordField = page.locator(PASSWORD_FIELD);
+    private final Locator loginButton = page.locator(LOGIN_BUTTON);
     private final Locator errorMessage = page.locator("[data-test='error']");
     private final Locator errorButton = page.locator(".error-button");
     private final Locator loginLogo = page.locator(".login_logo");
     private final Locator credentialsContainer = page.locator("#login_credentials");
 
+    @Override
+    protected ReadinessContract readinessContract() {
+        return ReadinessContract.of(".*/(index\\.html)?([?#].*)?$", USERNAME_FIELD, PASSWORD_FIELD, LOGIN_BUTTON);
+    }
+
     @Step("Enter username: {username}")
     public LoginPage enterUsername(String username) {
         fill(usernameField, username, "Username field");
@@ -34,15 +52,13 @@ public class LoginPage extends BasePage {
 
     @Step("Login with credentials - Username: {username}, Password: {password}")
     public InventoryPage login(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
+        fillCredentials(username, password);
         return clickLogin();
     }
 
     @Step("Login with invalid credentials - Username: {username}, Password: {password}")
     public LoginPage loginWithInvalidCredentials(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
+        fillCredentials(username, password);
         click(loginButton, "Login button");
         return this;
     }
@@ -55,6 +71,11 @@ public class LoginPage extends BasePage {
         return "";
     }
 
+    @Step("Get form errors")
+    public FormErrorsSnapshot getFormErrors() {
+        return probe("formErrors", FormErrorsSnapshot.class);
+    }
+
     @Step("Check if error message is displayed")
     public boolean isErrorMessageDisplayed() {
         return isVisible(errorMessage, "Error message");
@@ -70,9 +91,10 @@ public class LoginPage extends BasePage {
 
     @Step("Check if login form is displayed")
     public boolean isLoginFormDisplayed() {
-        return isVisible(usernameField, "Username field") &&
-               isVisible(passwordField, "Password field") &&
-               isVisible(loginButton, "Login button");
+        return checkElements("Login form",
+                ElementCheck.visible("Username field", USERNAME_FIELD),
+                ElementCheck.visible("Password field", PASSWORD_FIELD),
+                ElementCheck.visible("Login button", LOGIN_BUTTON)).isSatisfied();
     }
 
     @Step("Get login logo text")
@@ -102,8 +124,14 @@ public class LoginPage extends BasePage {
 
     @Step("Clear login form")
     public LoginPage clearForm() {
-        fill(usernameField, "", "Username field");
-        fill(passwordField, "", "Password field");
+        fillCredentials("", "");
         return this;
     }
+
+    private void fillCredentials(String username, String password) {
+        Map<FormField, String> values = new LinkedHashMap<>();
+        values.put(USERNAME, username);
+        values.put(PASSWORD, password);
+        fillForm("Login form", values);
+    }
 }
@@ -0,0 +1,180 @@
+package com.saucedemo.pages;
+
+import com.microsoft.playwright.Page;
+import io.qameta.allure.Allure;
+import io.qameta.allure.model.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records a sequence of page actions and runs them inside the page in a single call.
+ * All actions must stay within one document; a full navigation ends the in-page script.
+ * Obtain one through {@link BasePage#transaction(String)}.
+ */
+public class PageTransaction {
+    private static final Logger logger = LoggerFactory.getLogger(PageTransaction.class);
+
+    private static final String TRANSACTION_SCRIPT = """
+            async ({ actions, stepTimeout }) => {
+                const settle = () => new Promise(resolve => setTimeout(resolve, 0));
+                const isVisible = el => {
+                    const rect = el.getBoundingClientRect();
+                    return rect.width > 0 && rect.height > 0 && getComputedStyle(el).visibility !== 'hidden';
+                };
+                const waitFor = async (selector, timeout) => {
+                    const deadline = Date.now() + timeout;
+                    for (;;) {
+                        const el = document.querySelector(selector);
+                        if (el && isVisible(el)) return el;
+                        if (Date.now() > deadline) throw new Error('Timed out after ' + timeout + 'ms waiting for ' + selector);
+                        await new Promise(resolve => setTimeout(resolve, 16));
+                    }
+                };
+                const setValue = (el, proto, value) => {
+                    Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, value);
+                };
+                for (let index = 0; index < actions.length; index++) {
+                    const action = actions[index];
+                    try {
+                        const el = await waitFor(action.selector, action.timeout || stepTimeout);
+                        switch (action.type) {
+                            case 'CLICK':
+                                if (el.disabled) throw new Error('Element is disabled: ' + action.selector);
+                                el.click();
+                                break;
+                            case 'FILL':
+                                el.focus();
+                                setValue(el, el instanceof HTMLTextAreaElement
+                                    ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype, action.value);
+                                el.dispatchEvent(new Event('input', { bubbles: true }));
+                                el.dispatchEvent(new Event('change', { bubbles: true }));
+                                break;
+                            case 'SELECT':
+                                if (!Array.from(el.options).some(option => option.value === action.value)) {
+                                    throw new Error('No option with value "' + action.value + '" in ' + action.selector);
+                                }
+                                setValue(el, HTMLSelectElement.prototype, action.value);
+                                el.dispatchEvent(new Event('input', { bubbles: true }));
+                                el.dispatchEvent(new Event('change', { bubbles: true }));
+                                break;
+                            case 'WAIT_FOR_SELECTOR':
+                                break;
+                            default:
+                                throw new Error('Unknown action type: ' + action.type);
+                        }
+                        await settle();
+                    } catch (e) {
+                        return { completed: index, failedIndex: index, error: String(e && e.message || e) };
+                    }
+                }
+                return { completed: actions.length, failedIndex: -1, error: null };
+            }
+            """;
+
+    private static final double DEFAULT_STEP_TIMEOUT_MS = 5000;
+
+    private enum ActionType {
+        CLICK,
+        FILL,
+        SELECT,
+        WAIT_FOR_SELECTOR
+    }
+
+    private record Action(ActionType type, String selector, String value, String description, Double timeout) {
+
+        Map<String, Object> toScriptArgument() {
+            Map<String, Object> argument = new HashMap<>();
+            argument.put("type", type.name());
+            argument.put("selector", selector);
+            argument.put("value", value);
+            argument.put("timeout", timeout);
+            return argument;
+        }
+    }
+
+    private final Page page;
+    private final String description;
+    private final List<Action> actions = new ArrayList<>();
+    private double stepTimeout = DEFAULT_STEP_TIMEOUT_MS;
+
+    PageTransaction(Page page, String description) {
+        this.page = page;
+        this.description = description;
+    }
+
+    public PageTransaction click(String selector, String elementDescription) {
+        actions.add(new Action(ActionType.CLICK, selector, null, "Click element: " + elementDescription, null));
+        return this;
+    }
+
+    public PageTransaction fill(String selector, String value, String elementDescription) {
+        actions.add(new Action(ActionType.FILL, selector, value,
+                "Fill field '" + elementDescription + "' with value: " + value, null));
+        return this;
+    }
+
+    public PageTransaction select(String selector, String value, String elementDescription) {
+        actions.add(new Action(ActionType.SELECT, selector, value,
+                "Select option '" + value + "' from dropdown: " + elementDescription, null));
+        return this;
+    }
+
+    public PageTransaction waitForSelector(String selector, String elementDescription) {
+        actions.add(new Action(ActionType.WAIT_FOR_SELECTOR, selector, null,
+                "Wait for element to be visible: " + elementDescription, null));
+        return this;
+    }
+
+    public PageTransaction waitForSelector(String selector, String elementDescription, double timeoutMs) {
+        actions.add(new Action(ActionType.WAIT_FOR_SELECTOR, selector, null,
+                "Wait for element to be visible: " + elementDescription, timeoutMs));
+        return this;
+    }
+
+    public PageTransaction withStepTimeout(double timeoutMs) {
+        this.stepTimeout = timeoutMs;
+        return this;
+    }
+
+    public int size() {
+        return actions.size();
+    }
+
+    public void execute() {
+        Allure.step("Run transaction: " + description, () -> runActions());
+    }
+
+    private void runActions() {
+        List<Map<String, Object>> scriptActions = new ArrayList<>();
+        for (Action action : actions) {
+            scriptActions.add(action.toScriptArgument());
+        }
+        Map<String, Object> arguments = new HashMap<>();
+        arguments.put("actions", scriptActions);
+        arguments.put("stepTimeout", stepTimeout);
+
+        long start = System.currentTimeMillis();
+        Map<?, ?> result = (Map<?, ?>) page.evaluate(TRANSACTION_SCRIPT, arguments);
+        long elapsed = System.currentTimeMillis() - start;
+
+        int failedIndex = ((Number) result.get("failedIndex")).intValue();
+        for (int i = 0; i < actions.size(); i++) {
+            Status status = failedIndex < 0 || i < failedIndex ? Status.PASSED
+                    : i == failedIndex ? Status.FAILED : Status.SKIPPED;
+            Allure.step("[" + i + "] " + actions.get(i).description(), status);
+        }
+
+        if (failedIndex >= 0) {
+            Action failed = actions.get(failedIndex);
+            String error = String.valueOf(result.get("error"));
+            logger.error("Transaction '{}' failed at step {} ({}): {}", description, failedIndex, failed.description(), error);
+            throw new PageTransactionException(description, failedIndex, failed.description(), error);
+        }
+        logger.info("Transaction '{}' completed {} actions in {}ms", description, actions.size(), elapsed);
+    }
+}
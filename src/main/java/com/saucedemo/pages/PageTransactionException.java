@@ -0,0 +1,24 @@
+package com.saucedemo.pages;
+
+/**
+ * Thrown when a recorded {@link PageTransaction} action fails inside the page.
+ */
+public class PageTransactionException extends RuntimeException {
+
+    private final int stepIndex;
+    private final String stepDescription;
+
+    public PageTransactionException(String transaction, int stepIndex, String stepDescription, String error) {
+        super("Transaction '" + transaction + "' failed at step " + stepIndex + " (" + stepDescription + "): " + error);
+        this.stepIndex = stepIndex;
+        this.stepDescription = stepDescription;
+    }
+
+    public int getStepIndex() {
+        return stepIndex;
+    }
+
+    public String getStepDescription() {
+        return stepDescription;
+    }
+}
@@ -1,16 +1,23 @@
 package com.saucedemo.pages;
 
 import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.saucedemo.pages.probe.ProductDetailsSnapshot;
 import io.qameta.allure.Step;
 
 public class ProductDetailsPage extends BasePage {
 
+    // Selectors
+    private static final String PRODUCT_NAME = ".inventory_details_name";
+    private static final String PRODUCT_DESCRIPTION = ".inventory_details_desc";
+    private static final String PRODUCT_PRICE = ".inventory_details_price";
+
     // Product details elements
     private final Locator backToProductsButton = page.locator("[data-test='back-to-products']");
     private final Locator productImage = page.locator(".inventory_details_img");
-    private final Locator productName = page.locator(".inventory_details_name");
-    private final Locator productDescription = page.locator(".inventory_details_desc");
-    private final Locator productPrice = page.locator(".inventory_details_price");
+    private final Locator productName = page.locator(PRODUCT_NAME);
+    private final Locator productDescription = page.locator(PRODUCT_DESCRIPTION);
+    private final Locator productPrice = page.locator(PRODUCT_PRICE);
     private final Locator addToCartButton = page.locator("button[id*='add-to-cart']");
     private final Locator removeButton = page.locator("button[id*='remove']");
 
@@ -18,11 +25,29 @@ public class ProductDetailsPage extends BasePage {
     private final Locator shoppingCartLink = page.locator(".shopping_cart_link");
     private final Locator shoppingCartBadge = page.locator(".shopping_cart_badge");
 
+    public ProductDetailsPage() {
+    }
+
+    ProductDetailsPage(Page page) {
+        super(page);
+    }
+
+    @Override
+    protected ReadinessContract readinessContract() {
+        return ReadinessContract.of(".*/inventory-item\\.html.*", PRODUCT_NAME, PRODUCT_PRICE);
+    }
+
     @Step("Check if product details page is loaded")
     public boolean isProductDetailsPageLoaded() {
-        return isVisible(productName, "Product name") &&
-               isVisible(productDescription, "Product description") &&
-               isVisible(productPrice, "Product price");
+        return checkElements("Product details page",
+                ElementCheck.visible("Product name", PRODUCT_NAME),
+                ElementCheck.visible("Product description", PRODUCT_DESCRIPTION),
+                ElementCheck.visible("Product price", PRODUCT_PRICE)).isSatisfied();
+    }
+
+    @Step("Get product details snapshot")
+    public ProductDetailsSnapshot getProductDetailsSnapshot() {
+        return probe("snapshotProductDetails", ProductDetailsSnapshot.class);
     }
 
     @Step("Get product name")
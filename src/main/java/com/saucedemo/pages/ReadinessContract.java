@@ -0,0 +1,36 @@
+package com.saucedemo.pages;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * What makes a page usable: a URL pattern plus the key elements that must be visible.
+ * {@link BasePage#waitForPageLoad()} waits for this instead of the full window load event.
+ */
+public final class ReadinessContract {
+
+    private final Pattern urlPattern;
+    private final List<String> selectors;
+
+    private ReadinessContract(Pattern urlPattern, List<String> selectors) {
+        this.urlPattern = urlPattern;
+        this.selectors = selectors;
+    }
+
+    public static ReadinessContract of(String urlRegex, String... selectors) {
+        return new ReadinessContract(Pattern.compile(urlRegex), List.of(selectors));
+    }
+
+    public Pattern getUrlPattern() {
+        return urlPattern;
+    }
+
+    public List<String> getSelectors() {
+        return selectors;
+    }
+
+    @Override
+    public String toString() {
+        return "url ~ " + urlPattern + ", visible " + selectors;
+    }
+}
@@ -0,0 +1,17 @@
+package com.saucedemo.pages.probe;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record CartSnapshot(List<LineItemSnapshot> items, int cartBadgeCount) {
+
+    public List<String> itemNames() {
+        return items.stream().map(LineItemSnapshot::name).toList();
+    }
+
+    public List<String> itemPrices() {
+        return items.stream().map(LineItemSnapshot::price).toList();
+    }
+}
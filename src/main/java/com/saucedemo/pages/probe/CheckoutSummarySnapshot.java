@@ -0,0 +1,18 @@
+package com.saucedemo.pages.probe;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record CheckoutSummarySnapshot(List<LineItemSnapshot> items,
+                                      String paymentInformation,
+                                      String shippingInformation,
+                                      String itemTotal,
+                                      String tax,
+                                      String total) {
+
+    public List<String> itemNames() {
+        return items.stream().map(LineItemSnapshot::name).toList();
+    }
+}
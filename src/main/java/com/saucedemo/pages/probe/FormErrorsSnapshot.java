@@ -0,0 +1,13 @@
+package com.saucedemo.pages.probe;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record FormErrorsSnapshot(String message, List<String> invalidFields) {
+
+    public boolean hasError() {
+        return message != null && !message.isEmpty();
+    }
+}
@@ -0,0 +1,17 @@
+package com.saucedemo.pages.probe;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record InventorySnapshot(List<ProductSnapshot> products, int cartBadgeCount, String sortOption) {
+
+    public List<String> productNames() {
+        return products.stream().map(ProductSnapshot::name).toList();
+    }
+
+    public List<String> productPrices() {
+        return products.stream().map(ProductSnapshot::price).toList();
+    }
+}
@@ -0,0 +1,7 @@
+package com.saucedemo.pages.probe;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record LineItemSnapshot(String name, String description, String price, int quantity) {
+}
@@ -0,0 +1,7 @@
+package com.saucedemo.pages.probe;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ProductSnapshot(Integer id, String name, String description, String price, String imageSrc, boolean inCart) {
+}
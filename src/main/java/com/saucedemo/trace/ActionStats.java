@@ -0,0 +1,64 @@
+package com.saucedemo.trace;
+
+/**
+ * Aggregated latency of one Playwright API call on one selector across all analysed traces.
+ * Durations are milliseconds; wait time is the part spent before the action was performed
+ * (actionability checks, auto-waiting), taken from the call's log entries.
+ */
+public final class ActionStats {
+
+    private final String action;
+    private final String selector;
+    private int count;
+    private int errors;
+    private double totalMillis;
+    private double maxMillis;
+    private double totalWaitMillis;
+
+    ActionStats(String action, String selector) {
+        this.action = action;
+        this.selector = selector;
+    }
+
+    void record(double durationMillis, double waitMillis, boolean failed) {
+        count++;
+        totalMillis += durationMillis;
+        maxMillis = Math.max(maxMillis, durationMillis);
+        totalWaitMillis += waitMillis;
+        if (failed) {
+            errors++;
+        }
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getSelector() {
+        return selector;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getErrors() {
+        return errors;
+    }
+
+    public double getTotalMillis() {
+        return totalMillis;
+    }
+
+    public double getAverageMillis() {
+        return count == 0 ? 0 : totalMillis / count;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    public double getTotalWaitMillis() {
+        return totalWaitMillis;
+    }
+}
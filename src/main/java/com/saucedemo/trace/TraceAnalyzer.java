@@ -0,0 +1,138 @@
+package com.saucedemo.trace;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Mines Playwright trace zips (as saved by {@code BrowserManager.saveTrace}) for per-action latency.
+ * Traces are opened one at a time and their {@code *.trace} event logs are read line by line, so memory
+ * stays bounded by the calls in flight within one trace plus one aggregate per action/selector pair,
+ * however many traces the run produced.
+ * Run with {@code mvn compile -Ptrace-analytics [-Dtraces.dir=...]}.
+ */
+public class TraceAnalyzer {
+    private static final Logger logger = LoggerFactory.getLogger(TraceAnalyzer.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private record PendingCall(String action, String selector, double startTime, boolean waitOnly) {
+    }
+
+    private final Map<String, ActionStats> stats = new LinkedHashMap<>();
+    private int traceCount;
+    private long actionCount;
+
+    /**
+     * Analyses a single trace zip, or every {@code *.zip} in a directory.
+     */
+    public TraceReport analyze(Path tracesOrDirectory) throws IOException {
+        if (Files.isDirectory(tracesOrDirectory)) {
+            try (DirectoryStream<Path> traces = Files.newDirectoryStream(tracesOrDirectory, "*.zip")) {
+                for (Path trace : traces) {
+                    analyzeTrace(trace);
+                }
+            }
+        } else {
+            analyzeTrace(tracesOrDirectory);
+        }
+        return new TraceReport(stats.values().stream().toList(), traceCount, actionCount);
+    }
+
+    private void analyzeTrace(Path trace) {
+        try (ZipFile zip = new ZipFile(trace.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (entry.getName().endsWith(".trace")) {
+                    try (BufferedReader events = new BufferedReader(
+                            new InputStreamReader(zip.getInputStream(entry), StandardCharsets.UTF_8))) {
+                        readEvents(events);
+                    }
+                }
+            }
+            traceCount++;
+        } catch (IOException | UncheckedIOException e) {
+            logger.warn("Skipping unreadable trace {}: {}", trace.getFileName(), e.getMessage());
+        }
+    }
+
+    private void readEvents(BufferedReader events) throws IOException {
+        Map<String, PendingCall> pending = new HashMap<>();
+        Map<String, Double> performedAt = new HashMap<>();
+        String line;
+        while ((line = events.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode event = objectMapper.readTree(line);
+            String callId = event.path("callId").asText(null);
+            if (callId == null) {
+                continue;
+            }
+            switch (event.path("type").asText()) {
+                case "before" -> {
+                    String action = event.path("apiName").asText(null);
+                    if (action != null) {
+                        pending.put(callId, new PendingCall(action, selectorOf(event.path("params")),
+                                event.path("startTime").asDouble(), action.contains(".waitFor")));
+                    }
+                }
+                // Actionability checks end when Playwright logs that it is performing the action
+                case "log" -> {
+                    if (event.path("message").asText().contains("performing")) {
+                        performedAt.putIfAbsent(callId, event.path("time").asDouble());
+                    }
+                }
+                case "after" -> {
+                    PendingCall call = pending.remove(callId);
+                    if (call != null) {
+                        double duration = Math.max(0, event.path("endTime").asDouble() - call.startTime());
+                        Double performed = performedAt.remove(callId);
+                        double wait = performed != null ? Math.max(0, performed - call.startTime())
+                                : call.waitOnly() ? duration : 0;
+                        stats.computeIfAbsent(call.action() + "\u0000" + call.selector(),
+                                        key -> new ActionStats(call.action(), call.selector()))
+                                .record(duration, wait, event.hasNonNull("error"));
+                        actionCount++;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    private static String selectorOf(JsonNode params) {
+        if (params.hasNonNull("selector")) {
+            return params.get("selector").asText();
+        }
+        if (params.hasNonNull("url")) {
+            return params.get("url").asText();
+        }
+        return "";
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path traces = Paths.get(args.length > 0 ? args[0] : "test-results/traces");
+        int limit = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        TraceReport report = new TraceAnalyzer().analyze(traces);
+        logger.info("Trace analytics for {}:\n{}", traces, report.toTable(limit));
+    }
+}
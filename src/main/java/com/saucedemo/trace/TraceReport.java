@@ -0,0 +1,69 @@
+package com.saucedemo.trace;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Result of {@link TraceAnalyzer#analyze(java.nio.file.Path)}: per-action latency across every trace of a run.
+ */
+public final class TraceReport {
+
+    private final List<ActionStats> actions;
+    private final int traceCount;
+    private final long actionCount;
+
+    TraceReport(List<ActionStats> actions, int traceCount, long actionCount) {
+        List<ActionStats> sorted = new ArrayList<>(actions);
+        sorted.sort(Comparator.comparingDouble(ActionStats::getTotalMillis).reversed());
+        this.actions = List.copyOf(sorted);
+        this.traceCount = traceCount;
+        this.actionCount = actionCount;
+    }
+
+    /**
+     * Action/selector pairs, most total time first.
+     */
+    public List<ActionStats> getActions() {
+        return actions;
+    }
+
+    public int getTraceCount() {
+        return traceCount;
+    }
+
+    public long getActionCount() {
+        return actionCount;
+    }
+
+    public double getTotalMillis() {
+        return actions.stream().mapToDouble(ActionStats::getTotalMillis).sum();
+    }
+
+    /**
+     * Plain-text table of the {@code limit} most expensive action/selector pairs.
+     */
+    public String toTable(int limit) {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%-28s %-60s %6s %10s %8s %8s %10s %6s%n",
+                "Action", "Selector", "Calls", "Total ms", "Avg ms", "Max ms", "Wait ms", "Errors"));
+        for (ActionStats stats : actions.subList(0, Math.min(limit, actions.size()))) {
+            table.append(String.format("%-28s %-60s %6d %10.0f %8.1f %8.0f %10.0f %6d%n",
+                    truncate(stats.getAction(), 28), truncate(stats.getSelector(), 60), stats.getCount(),
+                    stats.getTotalMillis(), stats.getAverageMillis(), stats.getMaxMillis(),
+                    stats.getTotalWaitMillis(), stats.getErrors()));
+        }
+        table.append(String.format("%d actions in %d traces, %.0fms total, %d distinct action/selector pairs%n",
+                actionCount, traceCount, getTotalMillis(), actions.size()));
+        return table.toString();
+    }
+
+    @Override
+    public String toString() {
+        return actionCount + " actions in " + traceCount + " traces";
+    }
+
+    private static String truncate(String text, int width) {
+        return text.length() <= width ? text : text.substring(0, width - 1) + "…";
+    }
+}
@@ -6,10 +6,17 @@ import org.aeonbits.owner.ConfigFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -21,24 +28,67 @@ public class BrowserManager {
     private static final ThreadLocal<Browser> browserThreadLocal = new ThreadLocal<>();
     private static final ThreadLocal<BrowserContext> contextThreadLocal = new ThreadLocal<>();
     private static final ThreadLocal<Page> pageThreadLocal = new ThreadLocal<>();
-    private static volatile Playwright playwright;
-    private static final Object playwrightLock = new Object();
+    private static final ThreadLocal<Boolean> fastAnimationsThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> traceChunkOpenThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<Playwright> playwrightThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<String> sharedBrowserEndpointThreadLocal = new ThreadLocal<>();
+    // Every video recorded on this thread since the last takeVideoPaths(), including sibling pages
+    private static final ThreadLocal<Set<Path>> videoPathsThreadLocal = ThreadLocal.withInitial(LinkedHashSet::new);
+    private static final String PROBE_SCRIPT_RESOURCE = "probes/saucedemo-probes.js";
+    private static volatile String probeScript;
 
-    public static void initializePlaywright() {
-        if (playwright == null) {
-            synchronized (playwrightLock) {
-                if (playwright == null) {
-                    playwright = Playwright.create();
-                    logger.info("Playwright initialized");
+    // Zeroes CSS transition/animation timings so menu and cart transitions finish in the next frame
+    private static final String NO_ANIMATIONS_SCRIPT = """
+            (() => {
+                const css = '*, *::before, *::after {'
+                    + ' transition-duration: 0s !important; transition-delay: 0s !important;'
+                    + ' animation-duration: 0s !important; animation-delay: 0s !important; }';
+                const apply = () => {
+                    const style = document.createElement('style');
+                    style.setAttribute('data-test-support', 'no-animations');
+                    style.textContent = css;
+                    (document.head || document.documentElement).appendChild(style);
+                };
+                if (document.documentElement) {
+                    apply();
+                } else {
+                    document.addEventListener('DOMContentLoaded', apply, { once: true });
                 }
-            }
+            })();
+            """;
+
+    public static void initializePlaywright() {
+        if (playwrightThreadLocal.get() == null) {
+            playwrightThreadLocal.set(Playwright.create());
+            logger.info("Playwright initialized");
+        }
+    }
+
+    /**
+     * Makes the next {@link #createBrowser()} on this thread connect to a shared Chromium over CDP
+     * instead of launching its own; pass null to go back to launching.
+     */
+    public static void useSharedBrowser(String cdpEndpoint) {
+        if (cdpEndpoint == null) {
+            sharedBrowserEndpointThreadLocal.remove();
+        } else {
+            sharedBrowserEndpointThreadLocal.set(cdpEndpoint);
         }
     }
 
     public static void createBrowser() {
         initializePlaywright();
+        Playwright playwright = playwrightThreadLocal.get();
+
+        String sharedEndpoint = sharedBrowserEndpointThreadLocal.get();
+        if (sharedEndpoint != null) {
+            Browser browser = playwright.chromium().connectOverCDP(sharedEndpoint);
+            browserThreadLocal.set(browser);
+            logger.info("Connected to shared browser at {}", sharedEndpoint);
+            return;
+        }
         
-        String browserName = System.getProperty("browser", config.browser());
+        String browserName = getBrowserName();
         BrowserType browserType = switch (browserName.toLowerCase()) {
             case "firefox" -> playwright.firefox();
             case "webkit", "safari" -> playwright.webkit();
@@ -46,17 +96,33 @@ public class BrowserManager {
             default -> playwright.chromium();
         };
 
-        // Check system property for headless mode override
-        boolean headlessMode = Boolean.parseBoolean(
-            System.getProperty("headless", String.valueOf(config.headless())));
+        Browser browser = browserType.launch(createLaunchOptions(browserName));
         
-        int slowMotion = Integer.parseInt(
-            System.getProperty("slow.mo", String.valueOf(config.slowMo())));
+        browserThreadLocal.set(browser);
+        logger.info("Browser {} created with headless: {} (slow motion: {}ms)", 
+                browserName, isHeadless(), getSlowMo());
+    }
+
+    public static String getBrowserName() {
+        return System.getProperty("browser", config.browser());
+    }
+
+    private static boolean isHeadless() {
+        // Check system property for headless mode override
+        return Boolean.parseBoolean(System.getProperty("headless", String.valueOf(config.headless())));
+    }
+
+    private static int getSlowMo() {
+        return Integer.parseInt(System.getProperty("slow.mo", String.valueOf(config.slowMo())));
+    }
+
+    static BrowserType.LaunchOptions createLaunchOptions(String browserName) {
+        boolean headlessMode = isHeadless();
         
         // Create launch options with performance optimizations
         BrowserType.LaunchOptions options = new BrowserType.LaunchOptions()
                 .setHeadless(headlessMode)
-                .setSlowMo(slowMotion);
+                .setSlowMo(getSlowMo());
         
         // Browser-specific optimizations for visible mode on macOS
         if (!headlessMode && System.getProperty("os.name").toLowerCase().contains("mac")) {
@@ -129,15 +195,33 @@ public class BrowserManager {
                 options.setArgs(args);
             }
         }
-        
-        Browser browser = browserType.launch(options);
-        
-        browserThreadLocal.set(browser);
-        logger.info("Browser {} created with headless: {} (slow motion: {}ms)", 
-                browserName, headlessMode, slowMotion);
+        return options;
     }
 
     public static void createContext() {
+        createContext(isFastAnimationsEnabled());
+    }
+
+    /**
+     * Creates the thread's context in the configured animation mode, seeded from a storage state snapshot.
+     */
+    public static void createContext(String storageState) {
+        createContext(isFastAnimationsEnabled(), storageState);
+    }
+
+    /**
+     * Creates the thread's browser context. With fastAnimations the context gets a stylesheet that
+     * zeroes CSS transition and animation durations; tests that assert real animation behavior pass false.
+     */
+    public static void createContext(boolean fastAnimations) {
+        createContext(fastAnimations, null);
+    }
+
+    /**
+     * Creates the thread's browser context seeded with cookies and local storage from a
+     * {@link BrowserContext#storageState()} snapshot; a null snapshot starts from an empty profile.
+     */
+    public static void createContext(boolean fastAnimations, String storageState) {
         Browser browser = browserThreadLocal.get();
         if (browser == null) {
             throw new IllegalStateException("Browser not initialized. Call createBrowser() first.");
@@ -149,22 +233,38 @@ public class BrowserManager {
                 .setIgnoreHTTPSErrors(true) // Skip SSL validation for faster loading
                 .setBypassCSP(true) // Bypass Content Security Policy for faster script execution
                 .setColorScheme(com.microsoft.playwright.options.ColorScheme.LIGHT);
+        if (storageState != null) {
+            contextOptions.setStorageState(storageState);
+        }
 
-        // Enable video recording when configured via CLI or config
-        if (getVideoMode()) {
+        // Enable video recording when configured via CLI or config; encoding cost scales with frame size,
+        // so recordings use the smaller video.size profile rather than the 1920x1080 viewport
+        if (isVideoRecording()) {
+            int[] videoSize = getVideoSize();
             contextOptions.setRecordVideoDir(Paths.get("test-results/videos"))
-                         .setRecordVideoSize(1920, 1080);
-            logger.info("Video recording enabled - files will be saved to test-results/videos");
+                         .setRecordVideoSize(videoSize[0], videoSize[1]);
+            logger.info("Video recording enabled ({}, {}x{}) - files will be saved to test-results/videos",
+                    getVideoMode(), videoSize[0], videoSize[1]);
         }
 
         BrowserContext context = browser.newContext(contextOptions);
 
-        // Only start tracing when needed
+        // Register the in-page probe library once so every page in this context can be snapshotted in one call
+        context.addInitScript(getProbeScript());
+
+        if (fastAnimations) {
+            // Only CSS durations are zeroed: nothing advances a Playwright clock here, and an installed one would
+            // still replace Date, timers and rAF in every test without making any wait shorter
+            context.addInitScript(NO_ANIMATIONS_SCRIPT);
+            logger.info("CSS animations disabled for this context");
+        }
+        fastAnimationsThreadLocal.set(fastAnimations);
+
+        // Only start tracing when needed; start() opens the first chunk, later tests on a reused
+        // context get their own chunk via startTraceChunk()
         if (getTraceMode()) {
-            context.tracing().start(new Tracing.StartOptions()
-                    .setScreenshots(true)
-                    .setSnapshots(true)
-                    .setSources(true));
+            context.tracing().start(createTraceOptions());
+            traceChunkOpenThreadLocal.set(true);
         }
 
         contextThreadLocal.set(context);
@@ -178,7 +278,29 @@ public class BrowserManager {
         }
 
         Page page = context.newPage();
-        
+        configurePage(page);
+
+        pageThreadLocal.set(page);
+        logger.info("Page created with optimized settings and timeout: {}ms", config.timeout());
+    }
+
+    /**
+     * Opens an extra page (tab) in the thread's context with the same settings as the main page.
+     * It does not replace {@link #getPage()}; the caller closes it.
+     */
+    public static Page openSiblingPage() {
+        BrowserContext context = contextThreadLocal.get();
+        if (context == null) {
+            throw new IllegalStateException("Browser context not initialized. Call createContext() first.");
+        }
+        Page page = context.newPage();
+        configurePage(page);
+        return page;
+    }
+
+    private static void configurePage(Page page) {
+        rememberVideo(page);
+
         // Optimized page settings for better performance
         page.setDefaultTimeout(config.timeout());
         page.setDefaultNavigationTimeout(config.timeout());
@@ -187,9 +309,6 @@ public class BrowserManager {
         page.route("**/google-analytics.com/**", route -> route.abort());
         page.route("**/googletagmanager.com/**", route -> route.abort());
         page.route("**/facebook.com/tr/**", route -> route.abort());
-        
-        pageThreadLocal.set(page);
-        logger.info("Page created with optimized settings and timeout: {}ms", config.timeout());
     }
 
     public static Page getPage() {
@@ -200,6 +319,23 @@ public class BrowserManager {
         return page;
     }
 
+    /**
+     * The thread's main page, or null when none was created (e.g. setup failed before {@link #createPage()}).
+     */
+    public static Page findPage() {
+        return pageThreadLocal.get();
+    }
+
+    /**
+     * Measures the thread page's last readiness-based navigation before the page goes away.
+     */
+    public static void settleNavigationTimings() {
+        Page page = pageThreadLocal.get();
+        if (page != null) {
+            NavigationTimings.settle(page);
+        }
+    }
+
     public static BrowserContext getContext() {
         return contextThreadLocal.get();
     }
@@ -208,43 +344,97 @@ public class BrowserManager {
         return browserThreadLocal.get();
     }
 
+    public static boolean isFastAnimations() {
+        return Boolean.TRUE.equals(fastAnimationsThreadLocal.get());
+    }
+
+    public static String getProbeScript() {
+        if (probeScript == null) {
+            try (InputStream in = BrowserManager.class.getClassLoader().getResourceAsStream(PROBE_SCRIPT_RESOURCE)) {
+                if (in == null) {
+                    throw new IllegalStateException("Probe script not found on classpath: " + PROBE_SCRIPT_RESOURCE);
+                }
+                probeScript = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to load probe script " + PROBE_SCRIPT_RESOURCE, e);
+            }
+        }
+        return probeScript;
+    }
+
     public static void takeScreenshot(String name) {
         Page page = getPage();
         if (page != null) {
             try {
-                page.screenshot(new Page.ScreenshotOptions()
-                        .setPath(Paths.get("test-results/screenshots/" + name + ".png"))
-                        .setFullPage(true));
-                logger.info("Screenshot taken: {}", name);
+                String testId = EvidenceManager.getCurrentTestId();
+                ScreenshotStore.Entry entry = ScreenshotStore.store(testId != null ? testId : name, name,
+                        page.screenshot(ScreenshotStore.captureOptions()));
+                logger.info("Screenshot taken: {} ({})", name, entry.blob());
             } catch (Exception e) {
                 logger.error("Failed to take screenshot: {}", e.getMessage());
             }
         }
     }
 
-    public static void saveTrace(String name) {
+    /**
+     * Starts a new trace chunk on the thread's context unless one is already recording.
+     */
+    public static void startTraceChunk(String title) {
         BrowserContext context = getContext();
-        if (context != null && getTraceMode()) {
+        if (context != null && getTraceMode() && !isTraceChunkOpen()) {
+            context.tracing().startChunk(new Tracing.StartChunkOptions().setTitle(title));
+            traceChunkOpenThreadLocal.set(true);
+        }
+    }
+
+    /**
+     * Stops the current trace chunk into {@code test-results/traces/<name>.zip}; returns the zip, or null
+     * when nothing was saved. Tracing itself keeps running for the next chunk.
+     */
+    public static Path saveTrace(String name) {
+        BrowserContext context = getContext();
+        if (context != null && getTraceMode() && isTraceChunkOpen()) {
             try {
-                context.tracing().stop(new Tracing.StopOptions()
-                        .setPath(Paths.get("test-results/traces/" + name + ".zip")));
+                Path trace = Paths.get("test-results/traces/" + name + ".zip");
+                context.tracing().stopChunk(new Tracing.StopChunkOptions().setPath(trace));
                 logger.info("Trace saved: {}", name);
+                return trace;
             } catch (Exception e) {
                 logger.error("Failed to save trace: {}", e.getMessage());
+            } finally {
+                traceChunkOpenThreadLocal.remove();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stops the current trace chunk without writing it; the recorded actions are dropped in the driver.
+     */
+    public static void discardTraceChunk() {
+        BrowserContext context = getContext();
+        if (context != null && isTraceChunkOpen()) {
+            try {
+                context.tracing().stopChunk();
+                logger.debug("Trace chunk discarded");
+            } catch (Exception e) {
+                logger.debug("Error discarding trace chunk: {}", e.getMessage());
+            } finally {
+                traceChunkOpenThreadLocal.remove();
             }
         }
     }
 
+    public static String getTraceModeName() {
+        // Check system property first (CLI override), then config
+        return System.getProperty("trace.mode", config.traceMode()).toUpperCase();
+    }
+
     public static void closePage() {
         Page page = pageThreadLocal.get();
         if (page != null) {
             try {
-                if (!page.isClosed()) {
-                    page.close();
-                }
-                logger.info("Page closed");
-            } catch (Exception e) {
-                logger.warn("Error closing page: {}", e.getMessage());
+                closePage(page);
             } finally {
                 pageThreadLocal.remove();
             }
@@ -255,20 +445,12 @@ public class BrowserManager {
         BrowserContext context = contextThreadLocal.get();
         if (context != null) {
             try {
-                // Stop tracing first if enabled
-                if (getTraceMode()) {
-                    try {
-                        context.tracing().stop();
-                    } catch (Exception e) {
-                        logger.debug("Error stopping trace: {}", e.getMessage());
-                    }
-                }
-                context.close();
-                logger.info("Browser context closed");
-            } catch (Exception e) {
-                logger.warn("Error closing browser context: {}", e.getMessage());
+                rememberVideos(context);
+                closeContext(context, getTraceMode());
             } finally {
                 contextThreadLocal.remove();
+                fastAnimationsThreadLocal.remove();
+                traceChunkOpenThreadLocal.remove();
             }
         }
     }
@@ -277,30 +459,79 @@ public class BrowserManager {
         Browser browser = browserThreadLocal.get();
         if (browser != null) {
             try {
-                if (browser.isConnected()) {
-                    // Force close all contexts first in visible mode
-                    try {
-                        for (BrowserContext context : browser.contexts()) {
-                            if (!context.equals(contextThreadLocal.get())) {
-                                context.close();
-                            }
+                closeBrowser(browser, sharedBrowserEndpointThreadLocal.get() != null, contextThreadLocal.get());
+            } finally {
+                browserThreadLocal.remove();
+            }
+        }
+    }
+
+    // The handle-based variants below touch no ThreadLocal, so they can run on a cleanup thread
+
+    private static void closePage(Page page) {
+        try {
+            if (!page.isClosed()) {
+                page.close();
+            }
+            logger.info("Page closed");
+        } catch (Exception e) {
+            logger.warn("Error closing page: {}", e.getMessage());
+        }
+    }
+
+    private static void rememberVideos(BrowserContext context) {
+        try {
+            // Pages the app opened itself (popups) were never configured here
+            context.pages().forEach(BrowserManager::rememberVideo);
+        } catch (Exception e) {
+            logger.debug("Error collecting context videos: {}", e.getMessage());
+        }
+    }
+
+    private static void closeContext(BrowserContext context, boolean tracing) {
+        try {
+            // Stop tracing first if enabled
+            if (tracing) {
+                try {
+                    context.tracing().stop();
+                } catch (Exception e) {
+                    logger.debug("Error stopping trace: {}", e.getMessage());
+                }
+            }
+            context.close();
+            logger.info("Browser context closed");
+        } catch (Exception e) {
+            logger.warn("Error closing browser context: {}", e.getMessage());
+        }
+    }
+
+    private static void closeBrowser(Browser browser, boolean shared, BrowserContext ownContext) {
+        try {
+            if (browser.isConnected() && shared) {
+                // Shared browser: only disconnect, sibling threads still own their contexts
+                browser.close();
+            } else if (browser.isConnected()) {
+                // Force close all contexts first in visible mode
+                try {
+                    for (BrowserContext context : browser.contexts()) {
+                        if (!context.equals(ownContext)) {
+                            context.close();
                         }
-                    } catch (Exception e) {
-                        logger.debug("Error closing additional contexts: {}", e.getMessage());
                     }
-                    
-                    browser.close();
+                } catch (Exception e) {
+                    logger.debug("Error closing additional contexts: {}", e.getMessage());
                 }
-                logger.info("Browser closed");
-            } catch (Exception e) {
-                logger.warn("Error closing browser: {}", e.getMessage());
-            } finally {
-                browserThreadLocal.remove();
+
+                browser.close();
             }
+            logger.info("Browser closed");
+        } catch (Exception e) {
+            logger.warn("Error closing browser: {}", e.getMessage());
         }
     }
 
     public static void closePlaywright() {
+        Playwright playwright = playwrightThreadLocal.get();
         if (playwright != null) {
             try {
                 playwright.close();
@@ -308,7 +539,7 @@ public class BrowserManager {
             } catch (Exception e) {
                 logger.warn("Error closing Playwright: {}", e.getMessage());
             } finally {
-                playwright = null;
+                playwrightThreadLocal.remove();
             }
         }
     }
@@ -353,12 +584,36 @@ public class BrowserManager {
      */
     public static void forceCleanupWithTimeout() {
         logger.debug("Starting force cleanup with timeout protection");
+
+        // The cleanup thread has its own, empty ThreadLocals: hand it this thread's objects, and clear this
+        // thread's state up front so the next test on it starts clean even if closing times out
+        Page page = pageThreadLocal.get();
+        BrowserContext context = contextThreadLocal.get();
+        Browser browser = browserThreadLocal.get();
+        boolean sharedBrowser = sharedBrowserEndpointThreadLocal.get() != null;
+        boolean tracing = getTraceMode();
+        if (context != null) {
+            rememberVideos(context);
+        }
+        pageThreadLocal.remove();
+        contextThreadLocal.remove();
+        fastAnimationsThreadLocal.remove();
+        traceChunkOpenThreadLocal.remove();
+        browserThreadLocal.remove();
+
         ExecutorService executor = Executors.newSingleThreadExecutor();
-        
         try {
             Future<?> future = executor.submit(() -> {
                 try {
-                    forceCleanup();
+                    if (page != null) {
+                        closePage(page);
+                    }
+                    if (context != null) {
+                        closeContext(context, tracing);
+                    }
+                    if (browser != null) {
+                        closeBrowser(browser, sharedBrowser, context);
+                    }
                 } catch (Exception e) {
                     logger.warn("Exception during timeout cleanup: {}", e.getMessage());
                 }
@@ -380,25 +635,83 @@ public class BrowserManager {
             
         } catch (Exception e) {
             logger.warn("Cleanup timed out or failed after timeout: {}", e.getMessage());
-            // Force ThreadLocal cleanup even if timeout occurred
-            pageThreadLocal.remove();
-            contextThreadLocal.remove();
-            browserThreadLocal.remove();
-            logger.info("ThreadLocal variables forcefully cleared due to timeout");
         } finally {
             executor.shutdownNow();
         }
     }
 
-    private static boolean getVideoMode() {
+    /**
+     * Video retention mode: OFF, ON_FAILURE (record every test, keep failures) or ALWAYS; ON is accepted for ALWAYS.
+     */
+    public static String getVideoMode() {
         // Check system property first (CLI override), then config
-        String videoMode = System.getProperty("video.mode", config.videoMode());
-        return !videoMode.equalsIgnoreCase("OFF");
+        String videoMode = System.getProperty("video.mode", config.videoMode()).toUpperCase();
+        return videoMode.equals("ON") ? "ALWAYS" : videoMode;
     }
 
-    private static boolean getTraceMode() {
+    public static boolean isVideoRecording() {
+        return !getVideoMode().equals("OFF");
+    }
+
+    /**
+     * Paths of every video recorded on this thread since the last call (main page and sibling pages),
+     * and forgets them. Each file is finalised when its context closes.
+     */
+    public static List<Path> takeVideoPaths() {
+        List<Path> videos = new ArrayList<>(videoPathsThreadLocal.get());
+        videoPathsThreadLocal.remove();
+        return videos;
+    }
+
+    private static void rememberVideo(Page page) {
+        if (page.video() == null) {
+            return;
+        }
+        try {
+            videoPathsThreadLocal.get().add(page.video().path());
+        } catch (Exception e) {
+            logger.debug("Video path not available: {}", e.getMessage());
+        }
+    }
+
+    private static int[] getVideoSize() {
+        String videoSize = System.getProperty("video.size", config.videoSize());
+        String[] parts = videoSize.toLowerCase().split("x");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("video.size must be WIDTHxHEIGHT but was: " + videoSize);
+        }
+        return new int[]{Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim())};
+    }
+
+    private static boolean isFastAnimationsEnabled() {
         // Check system property first (CLI override), then config
-        String traceMode = System.getProperty("trace.mode", config.traceMode());
-        return !traceMode.equalsIgnoreCase("OFF");
+        return Boolean.parseBoolean(
+            System.getProperty("animations.fast", String.valueOf(config.fastAnimations())));
+    }
+
+    private static boolean getTraceMode() {
+        return !getTraceModeName().equals("OFF");
+    }
+
+    private static boolean isTraceChunkOpen() {
+        return Boolean.TRUE.equals(traceChunkOpenThreadLocal.get());
+    }
+
+    /**
+     * Trace recording options for {@code trace.profile}: FULL (screenshots, DOM snapshots and sources),
+     * SNAPSHOTS (DOM snapshots only), SCREENSHOTS (screencast frames only) or MINIMAL (actions and network only).
+     */
+    private static Tracing.StartOptions createTraceOptions() {
+        String profile = System.getProperty("trace.profile", config.traceProfile()).toUpperCase();
+        Tracing.StartOptions options = new Tracing.StartOptions();
+        switch (profile) {
+            case "FULL" -> options.setScreenshots(true).setSnapshots(true).setSources(true);
+            case "SNAPSHOTS" -> options.setScreenshots(false).setSnapshots(true).setSources(false);
+            case "SCREENSHOTS" -> options.setScreenshots(true).setSnapshots(false).setSources(false);
+            case "MINIMAL" -> options.setScreenshots(false).setSnapshots(false).setSources(false);
+            default -> throw new IllegalArgumentException("Unknown trace.profile: " + profile
+                    + " (expected FULL, SNAPSHOTS, SCREENSHOTS or MINIMAL)");
+        }
+        return options;
     }
 }
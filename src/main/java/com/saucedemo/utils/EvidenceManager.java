@@ -0,0 +1,220 @@
+package com.saucedemo.utils;
+
+import com.microsoft.playwright.Page;
+import com.saucedemo.config.TestConfig;
+import org.aeonbits.owner.ConfigFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Captures the screenshot of the current test at most once, into memory, while its page is still open.
+ * The failure hook and {@code tearDown} both call {@link #captureScreenshot(String)}; whichever runs first
+ * pays for the encode and the other gets the same bytes. The result listener then hands those bytes to the
+ * file sink and to Allure, so nothing is re-captured or read back from disk, and passing tests under
+ * {@code screenshot.mode=ON_FAILURE} never take a screenshot at all.
+ */
+public final class EvidenceManager {
+    private static final Logger logger = LoggerFactory.getLogger(EvidenceManager.class);
+    private static final TestConfig config = ConfigFactory.create(TestConfig.class);
+
+    private static final ThreadLocal<byte[]> screenshotThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<String> testIdThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<Path> traceThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<CompletableFuture<Void>> traceSlimmedThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<List<Path>> videoThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<ScreencastBuffer> screencastThreadLocal = new ThreadLocal<>();
+
+    private EvidenceManager() {
+    }
+
+    /**
+     * Starts evidence collection for a test on this thread, forgetting any screenshot left by the previous one.
+     * The id keys the test's entries in the {@link ScreenshotStore} index.
+     */
+    public static void begin(String testId) {
+        screenshotThreadLocal.remove();
+        traceThreadLocal.remove();
+        traceSlimmedThreadLocal.remove();
+        // Videos recorded outside any test (e.g. the catalog drift check in @BeforeAll) get passing-test retention
+        videoThreadLocal.set(BrowserManager.takeVideoPaths());
+        retainVideo(false);
+        screencastThreadLocal.remove();
+        testIdThreadLocal.set(testId);
+    }
+
+    /**
+     * Id of the test running on this thread, or null outside a test.
+     */
+    public static String getCurrentTestId() {
+        return testIdThreadLocal.get();
+    }
+
+    /**
+     * Takes a screenshot of the current page, with the store's capture options, unless one was already captured for this test.
+     * Returns the captured bytes, or null when screenshots are off or the page is gone.
+     */
+    public static byte[] captureScreenshot(String reason) {
+        byte[] captured = screenshotThreadLocal.get();
+        if (captured != null) {
+            return captured;
+        }
+        if (isScreenshotMode("OFF")) {
+            return null;
+        }
+        Page page = BrowserManager.findPage();
+        if (page == null || page.isClosed()) {
+            logger.debug("No open page to capture {} screenshot", reason);
+            return null;
+        }
+        try {
+            captured = page.screenshot(ScreenshotStore.captureOptions());
+            screenshotThreadLocal.set(captured);
+            logger.info("Screenshot captured ({}): {} bytes", reason, captured.length);
+        } catch (Exception e) {
+            logger.error("Failed to capture {} screenshot: {}", reason, e.getMessage());
+        }
+        return captured;
+    }
+
+    /**
+     * Saves the Playwright trace of the current test while its context is still open, at most once.
+     */
+    public static void captureTrace(String name) {
+        if (traceThreadLocal.get() == null) {
+            Path trace = BrowserManager.saveTrace(name);
+            if (trace != null) {
+                traceThreadLocal.set(trace);
+                traceSlimmedThreadLocal.set(TraceSlimmer.slimAsync(trace));
+            }
+        }
+    }
+
+    /**
+     * Closes the current test's trace chunk at teardown if the failure hook has not already saved it:
+     * kept under {@code trace.mode=ALWAYS}, otherwise discarded without being written.
+     */
+    public static void finishTrace() {
+        if (traceThreadLocal.get() != null) {
+            return;
+        }
+        if (BrowserManager.getTraceModeName().equals("ALWAYS")) {
+            String testId = String.valueOf(testIdThreadLocal.get()).replaceAll("[^a-zA-Z0-9_-]", "_");
+            captureTrace(testId + "_" + System.currentTimeMillis());
+        } else {
+            BrowserManager.discardTraceChunk();
+        }
+    }
+
+    /**
+     * Attaches the trace zip saved for this test, if any, once its slimming pass has finished, and clears it.
+     */
+    public static void attachTrace() {
+        Path trace = traceThreadLocal.get();
+        CompletableFuture<Void> slimmed = traceSlimmedThreadLocal.get();
+        traceThreadLocal.remove();
+        traceSlimmedThreadLocal.remove();
+        if (trace != null) {
+            EvidenceWriter.attachFile("Playwright Trace", "application/zip", "zip", trace,
+                    slimmed != null ? slimmed : CompletableFuture.completedFuture(null));
+        }
+    }
+
+    /**
+     * Starts the rolling screencast of the current page when {@code screencast.mode=ON_FAILURE}.
+     */
+    public static void startScreencast() {
+        String mode = System.getProperty("screencast.mode", config.screencastMode());
+        Page page = BrowserManager.findPage();
+        if (!mode.equalsIgnoreCase("ON_FAILURE") || page == null) {
+            return;
+        }
+        String[] size = System.getProperty("screencast.size", config.screencastSize()).toLowerCase().split("x");
+        ScreencastBuffer buffer = ScreencastBuffer.start(page, config.screencastSeconds(), config.screencastFps(),
+                Integer.parseInt(size[0].trim()), Integer.parseInt(size[1].trim()), config.screencastQuality());
+        if (buffer != null) {
+            screencastThreadLocal.set(buffer);
+        }
+    }
+
+    /**
+     * Stops the screencast at the moment of failure so it ends on the failing state.
+     */
+    public static void freezeScreencast() {
+        ScreencastBuffer buffer = screencastThreadLocal.get();
+        if (buffer != null) {
+            buffer.freeze();
+        }
+    }
+
+    /**
+     * Renders the buffered last seconds into an HTML player attachment for a failed test; otherwise just drops
+     * the buffer. Either way the frames are released.
+     */
+    public static void retainScreencast(boolean failed) {
+        ScreencastBuffer buffer = screencastThreadLocal.get();
+        screencastThreadLocal.remove();
+        if (buffer == null || !failed) {
+            return;
+        }
+        EvidenceWriter.attach("Screencast (last " + config.screencastSeconds() + "s)", "text/html", "html",
+                buffer.toHtml(String.valueOf(testIdThreadLocal.get())));
+        logger.info("Failure screencast attached: {} frames", buffer.getFrameCount());
+    }
+
+    /**
+     * Takes over the videos of every page the test opened, for retention once the outcome is known;
+     * call after the context is closed, which is when the last ones are finalised.
+     */
+    public static void captureVideo() {
+        videoThreadLocal.set(BrowserManager.takeVideoPaths());
+    }
+
+    /**
+     * Applies the video retention mode once the outcome is known and the contexts (and so the videos) are closed:
+     * failing tests get every video attached by reference, passing tests under ON_FAILURE have them deleted
+     * in the background.
+     */
+    public static void retainVideo(boolean failed) {
+        List<Path> videos = videoThreadLocal.get();
+        videoThreadLocal.remove();
+        if (videos == null) {
+            return;
+        }
+        for (int i = 0; i < videos.size(); i++) {
+            Path video = videos.get(i);
+            if (failed) {
+                EvidenceWriter.attachFile(i == 0 ? "Video" : "Video (page " + (i + 1) + ")", "video/webm", "webm", video);
+                logger.info("Failure video attached: {}", video.getFileName());
+            } else if (BrowserManager.getVideoMode().equals("ON_FAILURE")) {
+                EvidenceWriter.delete(video);
+                logger.debug("Video of passing test queued for deletion: {}", video.getFileName());
+            }
+        }
+    }
+
+    /**
+     * Hands over the screenshot captured for this test, if any, and clears it.
+     */
+    public static byte[] takeScreenshot() {
+        byte[] captured = screenshotThreadLocal.get();
+        screenshotThreadLocal.remove();
+        return captured;
+    }
+
+    /**
+     * Stores the captured bytes once under their digest and attaches the same blob to the Allure report.
+     */
+    public static void publishScreenshot(String testId, String label, String title, byte[] image) {
+        ScreenshotStore.Entry entry = ScreenshotStore.store(testId, label, image);
+        ScreenshotStore.attach(title, entry, image);
+        logger.info("Screenshot {} of {} stored as {}", label, testId, entry.blob());
+    }
+
+    public static boolean isScreenshotMode(String mode) {
+        return System.getProperty("screenshot.mode", config.screenshotMode()).equalsIgnoreCase(mode);
+    }
+}
@@ -0,0 +1,281 @@
+package com.saucedemo.utils;
+
+import com.saucedemo.config.TestConfig;
+import io.qameta.allure.Allure;
+import io.qameta.allure.util.PropertiesUtils;
+import org.aeonbits.owner.ConfigFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Evidence I/O stage: test threads hand over bytes and return immediately, a small pool of daemon writer
+ * threads drains a bounded queue in batches and does the disk writes. A full queue blocks the submitter,
+ * so a slow disk throttles tests instead of buffering unbounded screenshots in memory.
+ * {@link #flush()} is the barrier called at {@code @AfterAll} (and on JVM exit) before artifacts are read.
+ */
+public final class EvidenceWriter {
+    private static final Logger logger = LoggerFactory.getLogger(EvidenceWriter.class);
+    private static final TestConfig config = ConfigFactory.create(TestConfig.class);
+
+    private static final int BATCH_SIZE = 16;
+    private static final long FLUSH_TIMEOUT_MS = 30_000;
+
+    // Returns the number of bytes copied; hard links copy none
+    @FunctionalInterface
+    interface WriteAction {
+        long write() throws IOException;
+    }
+
+    private record WriteJob(String description, WriteAction action, CompletableFuture<Void> done) {
+
+        private WriteJob(String description, WriteAction action) {
+            this(description, action, new CompletableFuture<>());
+        }
+    }
+
+    private static final BlockingQueue<WriteJob> queue = new ArrayBlockingQueue<>(Math.max(1, config.evidenceQueueCapacity()));
+    private static final Object flushLock = new Object();
+    private static final AtomicInteger pending = new AtomicInteger();
+    private static final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private static final AtomicLong bytesWritten = new AtomicLong();
+    private static final AtomicLong filesWritten = new AtomicLong();
+    private static final AtomicLong filesLinked = new AtomicLong();
+    private static final AtomicLong filesDeleted = new AtomicLong();
+    private static final AtomicLong failedWrites = new AtomicLong();
+    private static final AtomicLong submitterBlockedNanos = new AtomicLong();
+    private static volatile boolean started;
+
+    private EvidenceWriter() {
+    }
+
+    /**
+     * Queues a file write; parent directories are created by the writer. The returned future completes
+     * (normally, even if the write failed) once the write has been attempted.
+     */
+    public static CompletableFuture<Void> write(Path path, byte[] bytes) {
+        return submit(new WriteJob(path.toString(), () -> {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Files.write(path, bytes);
+            return bytes.length;
+        }));
+    }
+
+    /**
+     * Registers the attachment with the current Allure test on the calling thread, which is where Allure
+     * tracks the running test, and queues writing its content to the results directory.
+     */
+    public static void attach(String name, String type, String fileExtension, byte[] bytes) {
+        writeAttachment(Allure.getLifecycle().prepareAttachment(name, type, fileExtension), bytes);
+    }
+
+    /**
+     * Queues deleting a file that is no longer needed (e.g. the video of a passing test).
+     */
+    public static void delete(Path file) {
+        submit(new WriteJob("delete " + file, () -> {
+            if (Files.deleteIfExists(file)) {
+                filesDeleted.incrementAndGet();
+            }
+            return 0;
+        }));
+    }
+
+    /**
+     * Attaches a file that is already on disk (trace zips, videos) without reading it into the heap.
+     */
+    public static void attachFile(String name, String type, String fileExtension, Path file) {
+        attachFile(name, type, fileExtension, file, CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Attaches a file once {@code ready} completes, e.g. after a queued post-processing step has rewritten it.
+     */
+    public static void attachFile(String name, String type, String fileExtension, Path file, CompletableFuture<Void> ready) {
+        linkAttachment(Allure.getLifecycle().prepareAttachment(name, type, fileExtension), file, ready);
+    }
+
+    /**
+     * Queues an arbitrary evidence post-processing step (e.g. rewriting a trace) on the writer threads.
+     */
+    static CompletableFuture<Void> process(String description, WriteAction action) {
+        return submit(new WriteJob(description, action));
+    }
+
+    /**
+     * Queues writing the content of an already registered attachment source to the Allure results directory.
+     */
+    public static void writeAttachment(String source, byte[] bytes) {
+        submit(new WriteJob(source, () -> {
+            Allure.getLifecycle().writeAttachment(source, new ByteArrayInputStream(bytes));
+            return bytes.length;
+        }));
+    }
+
+    /**
+     * Queues placing a file into the results directory as an already registered attachment source, once
+     * {@code ready} completes. The file is hard-linked when results and evidence share a filesystem, and
+     * copied with {@link FileChannel#transferTo} otherwise; either way it never passes through the heap,
+     * and a link keeps the attachment intact when the evidence directory is cleaned later.
+     * {@code ready} must belong to a write queued earlier, which the FIFO queue guarantees a writer already took.
+     */
+    public static void linkAttachment(String source, Path file, CompletableFuture<Void> ready) {
+        submit(new WriteJob(source, () -> {
+            ready.join();
+            Path target = getResultsDirectory().resolve(source);
+            Files.createDirectories(target.getParent());
+            try {
+                Files.createLink(target, file);
+                filesLinked.incrementAndGet();
+                return 0;
+            } catch (FileAlreadyExistsException e) {
+                // Digest-named sources repeat across runs; the target may even be a link to this very file,
+                // which the truncating copy below would zero
+                logger.debug("Attachment {} already in results, keeping it", source);
+                return 0;
+            } catch (UnsupportedOperationException | IOException e) {
+                logger.debug("Cannot hard-link {} into results ({}), copying", file, e.getMessage());
+            }
+            try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                         StandardOpenOption.TRUNCATE_EXISTING)) {
+                long size = in.size();
+                long position = 0;
+                while (position < size) {
+                    position += in.transferTo(position, size - position, out);
+                }
+                return size;
+            }
+        }));
+    }
+
+    /**
+     * Blocks until every write queued so far has finished, then logs the writer metrics.
+     */
+    public static void flush() {
+        long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT_MS;
+        synchronized (flushLock) {
+            while (pending.get() > 0) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    logger.warn("Evidence writer flush timed out with {} writes pending", pending.get());
+                    return;
+                }
+                try {
+                    flushLock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        if (filesWritten.get() > 0 || failedWrites.get() > 0) {
+            logger.info("Evidence writer flushed: {}", getMetrics());
+        }
+    }
+
+    public static int getQueueDepth() {
+        return queue.size();
+    }
+
+    public static String getMetrics() {
+        return String.format("%d files (%d hard-linked), %d bytes written, %d deleted, %d failed, max queue depth %d/%d, submitters blocked %dms",
+                filesWritten.get(), filesLinked.get(), bytesWritten.get(), filesDeleted.get(), failedWrites.get(), maxQueueDepth.get(),
+                queue.size() + queue.remainingCapacity(), TimeUnit.NANOSECONDS.toMillis(submitterBlockedNanos.get()));
+    }
+
+    private static CompletableFuture<Void> submit(WriteJob job) {
+        ensureStarted();
+        pending.incrementAndGet();
+        try {
+            if (!queue.offer(job)) {
+                long blockedSince = System.nanoTime();
+                queue.put(job);
+                submitterBlockedNanos.addAndGet(System.nanoTime() - blockedSince);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            completed(1);
+            logger.warn("Interrupted while queueing evidence {}", job.description());
+            job.done().complete(null);
+            return job.done();
+        }
+        maxQueueDepth.accumulateAndGet(queue.size(), Math::max);
+        return job.done();
+    }
+
+    // Same lookup as Allure's own results writer: allure.properties, overridable by system property
+    private static Path getResultsDirectory() {
+        return Paths.get(PropertiesUtils.loadAllureProperties().getProperty("allure.results.directory", "allure-results"));
+    }
+
+    private static void ensureStarted() {
+        if (started) {
+            return;
+        }
+        synchronized (EvidenceWriter.class) {
+            if (started) {
+                return;
+            }
+            int threads = Math.max(1, config.evidenceWriterThreads());
+            for (int i = 0; i < threads; i++) {
+                Thread writer = new Thread(EvidenceWriter::drain, "evidence-writer-" + i);
+                writer.setDaemon(true);
+                writer.start();
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(EvidenceWriter::flush, "evidence-writer-flush"));
+            started = true;
+            logger.info("Evidence writer started with {} threads, queue capacity {}", threads, queue.remainingCapacity());
+        }
+    }
+
+    private static void drain() {
+        List<WriteJob> batch = new ArrayList<>(BATCH_SIZE);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, BATCH_SIZE - 1);
+            for (WriteJob job : batch) {
+                try {
+                    bytesWritten.addAndGet(job.action().write());
+                    filesWritten.incrementAndGet();
+                } catch (Exception e) {
+                    failedWrites.incrementAndGet();
+                    logger.warn("Failed to write evidence {}: {}", job.description(), e.getMessage());
+                } finally {
+                    job.done().complete(null);
+                }
+            }
+            logger.debug("Evidence writer wrote batch of {}, queue depth {}", batch.size(), queue.size());
+            completed(batch.size());
+            batch.clear();
+        }
+    }
+
+    private static void completed(int jobs) {
+        if (pending.addAndGet(-jobs) == 0) {
+            synchronized (flushLock) {
+                flushLock.notifyAll();
+            }
+        }
+    }
+}
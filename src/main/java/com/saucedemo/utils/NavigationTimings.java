@@ -0,0 +1,96 @@
+package com.saucedemo.utils;
+
+import com.microsoft.playwright.Page;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how much earlier pages became usable (readiness contract met) than the window load event.
+ * Both instants are taken in the page, on its own clock: the readiness timestamp when the contract is met,
+ * and the Navigation Timing {@code loadEventEnd} read back just before the page leaves that document.
+ */
+public final class NavigationTimings {
+    private static final Logger logger = LoggerFactory.getLogger(NavigationTimings.class);
+
+    // timeOrigin identifies the document, so a later document on the same page is never measured by mistake
+    private static final String LOAD_EVENT_SCRIPT = """
+            () => {
+                const entry = performance.getEntriesByType('navigation')[0];
+                return [performance.timeOrigin, entry ? entry.loadEventEnd : 0];
+            }
+            """;
+
+    private static final Map<Page, PendingNavigation> pending = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final LongAdder navigations = new LongAdder();
+    private static final LongAdder measured = new LongAdder();
+    private static final LongAdder savedMillis = new LongAdder();
+
+    private record PendingNavigation(String pageName, double timeOrigin, double readyAt) {
+    }
+
+    private NavigationTimings() {
+    }
+
+    /**
+     * Called once a navigation's readiness contract is met, with the document's {@code performance.timeOrigin}
+     * and the {@code performance.now()} at which it was met. When the document had not fired its load event
+     * yet, the gap is measured by {@link #settle(Page)}.
+     */
+    public static void recordReady(Page page, String pageName, long readyMillis, boolean alreadyLoaded,
+                                   double timeOrigin, double readyAt) {
+        navigations.increment();
+        if (alreadyLoaded) {
+            pending.remove(page);
+            logger.info("Navigation to {} ready in {}ms (load event had already fired)", pageName, readyMillis);
+            return;
+        }
+        pending.put(page, new PendingNavigation(pageName, timeOrigin, readyAt));
+        logger.info("Navigation to {} ready in {}ms, ahead of the load event", pageName, readyMillis);
+    }
+
+    /**
+     * Measures the pending navigation of the page, if any, from the page's own load timing. Call it on the
+     * page's thread before the page navigates elsewhere or closes; a document that never fired its load
+     * event, or that was already replaced, is left out rather than guessed.
+     */
+    public static void settle(Page page) {
+        PendingNavigation navigation = pending.remove(page);
+        if (navigation == null || page.isClosed()) {
+            return;
+        }
+        try {
+            List<?> timing = (List<?>) page.evaluate(LOAD_EVENT_SCRIPT);
+            double timeOrigin = ((Number) timing.get(0)).doubleValue();
+            double loadEventEnd = ((Number) timing.get(1)).doubleValue();
+            if (timeOrigin != navigation.timeOrigin() || loadEventEnd == 0) {
+                logger.debug("Navigation to {} left before its load timing could be read", navigation.pageName());
+                return;
+            }
+            long saved = Math.max(0, Math.round(loadEventEnd - navigation.readyAt()));
+            measured.increment();
+            savedMillis.add(saved);
+            logger.info("Navigation to {} was usable {}ms before the load event", navigation.pageName(), saved);
+        } catch (Exception e) {
+            logger.debug("Could not read load timing of {}: {}", navigation.pageName(), e.getMessage());
+        }
+    }
+
+    public static long getNavigationCount() {
+        return navigations.sum();
+    }
+
+    public static long getSavedMillis() {
+        return savedMillis.sum();
+    }
+
+    public static void logSummary() {
+        logger.info("Readiness-based navigation: {} navigations, {} measured before the load event, {}ms saved versus waiting for load",
+                getNavigationCount(), measured.sum(), getSavedMillis());
+    }
+}
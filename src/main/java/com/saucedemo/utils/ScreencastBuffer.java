@@ -0,0 +1,146 @@
+package com.saucedemo.utils;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rolling in-memory screencast of one Chromium page. CDP {@code Page.screencastFrame} events fill a fixed-size
+ * ring of base64 JPEG frames, evicting the oldest, so a passing test costs at most {@code capacity} small frames
+ * of heap and no disk or encoding work. Only when a test fails is the buffer frozen and rendered into a
+ * self-contained HTML player covering the last seconds before the failure.
+ */
+public final class ScreencastBuffer {
+    private static final Logger logger = LoggerFactory.getLogger(ScreencastBuffer.class);
+
+    private record Frame(double timestamp, String jpegBase64) {
+    }
+
+    private final CDPSession session;
+    private final Frame[] ring;
+    private final double windowSeconds;
+    private final double minFrameInterval;
+    private double lastStored = Double.NEGATIVE_INFINITY;
+    private int next;
+    private int size;
+    private boolean frozen;
+
+    private ScreencastBuffer(CDPSession session, int seconds, int fps) {
+        this.session = session;
+        this.ring = new Frame[Math.max(1, seconds * fps)];
+        this.windowSeconds = seconds;
+        this.minFrameInterval = 1.0 / Math.max(1, fps);
+    }
+
+    /**
+     * Starts screencasting the page into a ring holding {@code seconds} at up to {@code fps} frames per second.
+     * CDP sends frames at the compositor's rate (up to 60/s while animating), so frames arriving sooner than
+     * {@code 1/fps} after the last stored one are acknowledged but not kept.
+     * Returns null for non-Chromium browsers, where CDP is not available.
+     */
+    public static ScreencastBuffer start(Page page, int seconds, int fps, int maxWidth, int maxHeight, int quality) {
+        CDPSession session;
+        try {
+            session = page.context().newCDPSession(page);
+        } catch (Exception e) {
+            logger.info("Screencast buffer needs Chromium, not started: {}", e.getMessage());
+            return null;
+        }
+        ScreencastBuffer buffer = new ScreencastBuffer(session, seconds, fps);
+        session.on("Page.screencastFrame", buffer::onFrame);
+
+        JsonObject params = new JsonObject();
+        params.addProperty("format", "jpeg");
+        params.addProperty("quality", quality);
+        params.addProperty("maxWidth", maxWidth);
+        params.addProperty("maxHeight", maxHeight);
+        session.send("Page.startScreencast", params);
+        logger.debug("Screencast buffer started: last {}s, {} frames at most {}x{}", seconds, buffer.ring.length,
+                maxWidth, maxHeight);
+        return buffer;
+    }
+
+    /**
+     * Stops accepting frames so the buffer keeps the moments leading up to the failure, not the teardown after it.
+     */
+    public void freeze() {
+        if (frozen) {
+            return;
+        }
+        frozen = true;
+        try {
+            session.send("Page.stopScreencast");
+        } catch (Exception e) {
+            logger.debug("Could not stop screencast: {}", e.getMessage());
+        }
+    }
+
+    public int getFrameCount() {
+        return size;
+    }
+
+    /**
+     * Renders the buffered frames within the time window, oldest first, into an HTML page that plays them
+     * back at their original timing.
+     */
+    public byte[] toHtml(String title) {
+        List<Frame> frames = frames();
+        StringBuilder html = new StringBuilder(frames.stream().mapToInt(frame -> frame.jpegBase64().length() + 64).sum() + 1024);
+        html.append("<!DOCTYPE html><html><head><meta charset=\"utf-8\"><title>").append(escape(title))
+                .append("</title></head><body style=\"margin:0;background:#222;color:#ddd;font:12px sans-serif\">")
+                .append("<img id=\"frame\" style=\"display:block;max-width:100%\"><div id=\"caption\"></div><script>")
+                .append("const frames=[");
+        double start = frames.isEmpty() ? 0 : frames.get(0).timestamp();
+        for (Frame frame : frames) {
+            html.append("[").append(Math.round((frame.timestamp() - start) * 1000)).append(",\"")
+                    .append(frame.jpegBase64()).append("\"],");
+        }
+        html.append("];const img=document.getElementById('frame'),caption=document.getElementById('caption');")
+                .append("function show(i){if(!frames.length){caption.textContent='No frames captured';return;}")
+                .append("img.src='data:image/jpeg;base64,'+frames[i][1];")
+                .append("caption.textContent=(i+1)+'/'+frames.length+'  t='+frames[i][0]+'ms';")
+                .append("const wait=i+1<frames.length?frames[i+1][0]-frames[i][0]:1500;")
+                .append("setTimeout(()=>show((i+1)%frames.length),Math.max(wait,16));}show(0);")
+                .append("</script></body></html>");
+        return html.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void onFrame(JsonObject params) {
+        JsonObject ack = new JsonObject();
+        ack.addProperty("sessionId", params.get("sessionId").getAsInt());
+        double timestamp = params.getAsJsonObject("metadata").get("timestamp").getAsDouble();
+        if (!frozen && timestamp - lastStored >= minFrameInterval) {
+            ring[next] = new Frame(timestamp, params.get("data").getAsString());
+            next = (next + 1) % ring.length;
+            size = Math.min(size + 1, ring.length);
+            lastStored = timestamp;
+        }
+        try {
+            session.send("Page.screencastFrameAck", ack);
+        } catch (Exception e) {
+            logger.debug("Could not acknowledge screencast frame: {}", e.getMessage());
+        }
+    }
+
+    private List<Frame> frames() {
+        List<Frame> frames = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            frames.add(ring[(next - size + i + ring.length) % ring.length]);
+        }
+        if (!frames.isEmpty()) {
+            double cutoff = frames.get(frames.size() - 1).timestamp() - windowSeconds;
+            frames.removeIf(frame -> frame.timestamp() < cutoff);
+        }
+        return frames;
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,195 @@
+package com.saucedemo.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.ScreenshotScale;
+import com.microsoft.playwright.options.ScreenshotType;
+import com.saucedemo.config.TestConfig;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+import org.aeonbits.owner.ConfigFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Content-addressed screenshot store. Each distinct image is written once, as {@code blobs/<sha256>.<ext>},
+ * no matter how many tests capture it; {@code manifests/<test id>.json} maps a test to the digests it captured.
+ * Allure attachments reference the same digest-named source in the results directory, so a shared image is
+ * written there once as well. Capture format, JPEG quality, scale and clip come from {@code screenshot.*}.
+ */
+public final class ScreenshotStore {
+    private static final Logger logger = LoggerFactory.getLogger(ScreenshotStore.class);
+    private static final TestConfig config = ConfigFactory.create(TestConfig.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static final Path ROOT = Paths.get("test-results/screenshots");
+    private static final Path BLOBS = ROOT.resolve("blobs");
+    private static final Path MANIFESTS = ROOT.resolve("manifests");
+
+    /**
+     * One screenshot of a test in its manifest.
+     */
+    public record Entry(String label, String digest, String blob, int bytes) {
+    }
+
+    // Digests queued for the screenshot directory (with their pending writes) and for the Allure results directory
+    private static final Map<String, CompletableFuture<Void>> storedBlobs = new ConcurrentHashMap<>();
+    private static final Set<String> attachedBlobs = ConcurrentHashMap.newKeySet();
+    // In-memory evidence index: test id to its screenshots, maintained as they are stored
+    private static final Map<String, List<Entry>> manifests = new ConcurrentHashMap<>();
+    private static final Set<String> dirtyManifests = ConcurrentHashMap.newKeySet();
+
+    private ScreenshotStore() {
+    }
+
+    /**
+     * Screenshot options for the configured format, quality, scale and clip.
+     */
+    public static Page.ScreenshotOptions captureOptions() {
+        Page.ScreenshotOptions options = new Page.ScreenshotOptions()
+                .setFullPage(true)
+                .setType(getType())
+                .setScale(ScreenshotScale.valueOf(config.screenshotScale().toUpperCase()));
+        if (getType() == ScreenshotType.JPEG) {
+            options.setQuality(config.screenshotQuality());
+        }
+        String clip = config.screenshotClip().trim();
+        if (!clip.isEmpty()) {
+            String[] parts = clip.split(",");
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("screenshot.clip must be x,y,width,height but was: " + clip);
+            }
+            options.setFullPage(false).setClip(Double.parseDouble(parts[0].trim()), Double.parseDouble(parts[1].trim()),
+                    Double.parseDouble(parts[2].trim()), Double.parseDouble(parts[3].trim()));
+        }
+        return options;
+    }
+
+    /**
+     * Stores the image under its digest (queued only the first time it is seen) and records it in the test's manifest.
+     */
+    public static Entry store(String testId, String label, byte[] image) {
+        String digest = digest(image);
+        String blob = digest + "." + getExtension();
+        if (!storedBlobs.containsKey(digest)
+                && storedBlobs.putIfAbsent(digest, EvidenceWriter.write(BLOBS.resolve(blob), image)) == null) {
+            logger.debug("Screenshot {} of {} stored as {}", label, testId, blob);
+        } else {
+            logger.debug("Screenshot {} of {} already stored as {}", label, testId, blob);
+        }
+
+        Entry entry = new Entry(label, digest, BLOBS.getFileName().resolve(blob).toString(), image.length);
+        manifests.computeIfAbsent(testId, key -> new CopyOnWriteArrayList<>()).add(entry);
+        dirtyManifests.add(testId);
+        return entry;
+    }
+
+    /**
+     * Attaches a stored image to the current Allure test or step. The attachment source is named after the
+     * digest, so tests sharing an image point at one file in the results directory.
+     */
+    public static void attach(String title, Entry entry, byte[] image) {
+        String source = addAttachment(title, entry);
+        if (source != null && attachedBlobs.add(entry.digest())) {
+            EvidenceWriter.writeAttachment(source, image);
+        }
+    }
+
+    /**
+     * Attaches an image stored earlier without holding its bytes: the blob file is linked into the
+     * results directory by the evidence writer once its own write has finished.
+     */
+    public static void attachStored(String title, Entry entry) {
+        String source = addAttachment(title, entry);
+        CompletableFuture<Void> written = storedBlobs.get(entry.digest());
+        if (source != null && written != null && attachedBlobs.add(entry.digest())) {
+            EvidenceWriter.linkAttachment(source, ROOT.resolve(entry.blob()), written);
+        }
+    }
+
+    /**
+     * Screenshots stored for a test so far, in capture order; an index lookup, not a directory scan.
+     */
+    public static List<Entry> entriesFor(String testId) {
+        List<Entry> entries = manifests.get(testId);
+        return entries == null ? List.of() : List.copyOf(entries);
+    }
+
+    private static String addAttachment(String title, Entry entry) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        Optional<String> current = lifecycle.getCurrentTestCaseOrStep();
+        if (current.isEmpty()) {
+            logger.debug("No running Allure test to attach {} to", title);
+            return null;
+        }
+        String source = entry.digest() + "-attachment." + getExtension();
+        Attachment attachment = new Attachment().setName(title).setType(getMimeType()).setSource(source);
+        if (current.equals(lifecycle.getCurrentTestCase())) {
+            lifecycle.updateTestCase(current.get(), result -> result.getAttachments().add(attachment));
+        } else {
+            lifecycle.updateStep(current.get(), step -> step.getAttachments().add(attachment));
+        }
+        return source;
+    }
+
+    /**
+     * Queues the manifests of tests that captured screenshots since the last call; each manifest is written
+     * once per test class rather than once per screenshot.
+     */
+    public static void writeManifests() {
+        for (String testId : List.copyOf(dirtyManifests)) {
+            dirtyManifests.remove(testId);
+            String manifestName = testId.replaceAll("[^a-zA-Z0-9_.-]", "_") + ".json";
+            try {
+                EvidenceWriter.write(MANIFESTS.resolve(manifestName), objectMapper.writerWithDefaultPrettyPrinter()
+                        .writeValueAsBytes(Map.of("test", testId, "screenshots", List.copyOf(manifests.get(testId)))));
+            } catch (JsonProcessingException e) {
+                logger.warn("Could not serialise screenshot manifest for {}: {}", testId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Forgets which blobs were written, after the screenshot directory has been cleaned.
+     */
+    public static void reset() {
+        storedBlobs.clear();
+        manifests.clear();
+        dirtyManifests.clear();
+    }
+
+    public static String getExtension() {
+        return getType() == ScreenshotType.JPEG ? "jpeg" : "png";
+    }
+
+    private static String getMimeType() {
+        return getType() == ScreenshotType.JPEG ? "image/jpeg" : "image/png";
+    }
+
+    private static ScreenshotType getType() {
+        return ScreenshotType.valueOf(config.screenshotFormat().toUpperCase());
+    }
+
+    private static String digest(byte[] image) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(image));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
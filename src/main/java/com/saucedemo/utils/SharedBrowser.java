@@ -0,0 +1,126 @@
+package com.saucedemo.utils;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One Chromium process exposed over CDP so that several test threads can open sibling contexts in it.
+ * Playwright objects are confined to the thread that created them, so the browser is launched and closed
+ * on a dedicated owner thread and every test thread connects with its own Playwright instance
+ * through {@link BrowserManager#useSharedBrowser(String)}.
+ */
+public final class SharedBrowser implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(SharedBrowser.class);
+
+    private final ExecutorService owner;
+    private final String endpoint;
+    private Playwright playwright;
+    private Browser browser;
+
+    private SharedBrowser(ExecutorService owner, int port) {
+        this.owner = owner;
+        this.endpoint = "http://127.0.0.1:" + port;
+    }
+
+    /**
+     * Launches the shared browser, or returns null when the configured browser is not Chromium-based
+     * (CDP connections are Chromium-only); callers then fall back to a browser per thread.
+     */
+    public static SharedBrowser launch() {
+        String browserName = BrowserManager.getBrowserName().toLowerCase();
+        if (!browserName.equals("chromium") && !browserName.equals("chrome")) {
+            logger.info("Shared browser needs Chromium, {} runs one browser per thread", browserName);
+            return null;
+        }
+
+        ExecutorService owner = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "shared-browser");
+            thread.setDaemon(true);
+            return thread;
+        });
+        SharedBrowser shared = new SharedBrowser(owner, findFreePort());
+        try {
+            owner.submit(() -> shared.start(browserName)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            shared.close();
+            throw new IllegalStateException("Interrupted while launching shared browser", e);
+        } catch (ExecutionException e) {
+            shared.close();
+            throw new IllegalStateException("Failed to launch shared browser: " + e.getCause().getMessage(), e.getCause());
+        }
+        return shared;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public void close() {
+        owner.submit(() -> {
+            try {
+                if (browser != null) {
+                    browser.close();
+                }
+            } catch (Exception e) {
+                logger.warn("Error closing shared browser: {}", e.getMessage());
+            }
+            try {
+                if (playwright != null) {
+                    playwright.close();
+                }
+            } catch (Exception e) {
+                logger.warn("Error closing shared browser Playwright: {}", e.getMessage());
+            }
+        });
+        owner.shutdown();
+        try {
+            if (!owner.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warn("Shared browser did not close within 10s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Shared browser at {} closed", endpoint);
+    }
+
+    private void start(String browserName) {
+        BrowserType.LaunchOptions options = BrowserManager.createLaunchOptions(browserName);
+        List<String> args = new ArrayList<>();
+        if (options.args != null) {
+            for (String arg : options.args) {
+                if (!arg.startsWith("--remote-debugging-port")) {
+                    args.add(arg);
+                }
+            }
+        }
+        args.add("--remote-debugging-port=" + endpoint.substring(endpoint.lastIndexOf(':') + 1));
+        options.setArgs(args);
+
+        playwright = Playwright.create();
+        browser = playwright.chromium().launch(options);
+        logger.info("Shared browser launched, CDP endpoint {}", endpoint);
+    }
+
+    private static int findFreePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No free port for the shared browser", e);
+        }
+    }
+}
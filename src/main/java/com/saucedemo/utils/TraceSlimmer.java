@@ -0,0 +1,130 @@
+package com.saucedemo.utils;
+
+import com.saucedemo.config.TestConfig;
+import org.aeonbits.owner.ConfigFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Enumeration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Rewrites stored Playwright trace zips on the evidence writer. Entries are streamed one at a time from the
+ * zip's central directory into a temporary zip, which then replaces the original, so no trace is ever
+ * inflated in memory. Entries matching {@code trace.slim.drop} are removed, text entries are recompressed
+ * at the highest deflate level and already-compressed media is stored as is. The layout stays the one the
+ * trace viewer reads. Resources are named by content hash and often repeat across the traces of a run, but
+ * every attached trace must open on its own in the viewer, so repeats are kept; the summary reports their
+ * size separately from the actual reduction.
+ */
+public final class TraceSlimmer {
+    private static final Logger logger = LoggerFactory.getLogger(TraceSlimmer.class);
+    private static final TestConfig config = ConfigFactory.create(TestConfig.class);
+
+    private static final Pattern STORED_ENTRIES = Pattern.compile(".*\\.(jpe?g|png|webp|gif|woff2?|zip|gz)$",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final Set<String> seenResources = ConcurrentHashMap.newKeySet();
+    private static final AtomicLong traces = new AtomicLong();
+    private static final AtomicLong bytesBefore = new AtomicLong();
+    private static final AtomicLong bytesAfter = new AtomicLong();
+    private static final AtomicLong droppedEntries = new AtomicLong();
+    private static final AtomicLong repeatedResourceBytes = new AtomicLong();
+
+    private TraceSlimmer() {
+    }
+
+    /**
+     * Queues slimming of a trace zip; the future completes once the rewritten zip is in place (or slimming
+     * was skipped or failed, leaving the original), so attachments can wait for it.
+     */
+    public static CompletableFuture<Void> slimAsync(Path trace) {
+        if (!isEnabled()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return EvidenceWriter.process("slim " + trace.getFileName(), () -> slim(trace));
+    }
+
+    /**
+     * Rewrites the trace in place and returns the size of the rewritten zip.
+     */
+    static long slim(Path trace) throws IOException {
+        Pattern drop = Pattern.compile(System.getProperty("trace.slim.drop", config.traceSlimDrop()));
+        Path slimmed = trace.resolveSibling(trace.getFileName() + ".slim");
+        long before = Files.size(trace);
+        try (ZipFile in = new ZipFile(trace.toFile());
+             ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(slimmed))) {
+            out.setLevel(Deflater.BEST_COMPRESSION);
+            Enumeration<? extends ZipEntry> entries = in.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                String name = entry.getName();
+                if (drop.matcher(name).matches()) {
+                    droppedEntries.incrementAndGet();
+                    continue;
+                }
+                if (name.startsWith("resources/") && !seenResources.add(name)) {
+                    repeatedResourceBytes.addAndGet(entry.getCompressedSize());
+                }
+                out.putNextEntry(copyEntry(entry));
+                try (InputStream data = in.getInputStream(entry)) {
+                    data.transferTo(out);
+                }
+                out.closeEntry();
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(slimmed);
+            throw e;
+        }
+        Files.move(slimmed, trace, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        long after = Files.size(trace);
+        traces.incrementAndGet();
+        bytesBefore.addAndGet(before);
+        bytesAfter.addAndGet(after);
+        logger.debug("Trace {} slimmed from {} to {} bytes", trace.getFileName(), before, after);
+        return after;
+    }
+
+    public static void logSummary() {
+        if (traces.get() == 0) {
+            return;
+        }
+        long before = bytesBefore.get();
+        long after = bytesAfter.get();
+        logger.info("Trace slimming: {} traces, {} -> {} bytes ({}% smaller), {} entries dropped, "
+                        + "{} bytes of resources repeated across traces (kept, not deduplicated)",
+                traces.get(), before, after, before == 0 ? 0 : Math.round(100.0 * (before - after) / before),
+                droppedEntries.get(), repeatedResourceBytes.get());
+    }
+
+    private static ZipEntry copyEntry(ZipEntry source) {
+        ZipEntry entry = new ZipEntry(source.getName());
+        entry.setTime(source.getTime());
+        if (STORED_ENTRIES.matcher(source.getName()).matches() && source.getSize() >= 0 && source.getCrc() >= 0) {
+            // Media is already compressed; storing it skips a deflate pass that would not shrink it
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(source.getSize());
+            entry.setCompressedSize(source.getSize());
+            entry.setCrc(source.getCrc());
+        }
+        return entry;
+    }
+
+    private static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("trace.slim", String.valueOf(config.traceSlim())));
+    }
+}
@@ -0,0 +1,38 @@
+package com.saucedemo.visual;
+
+/**
+ * Outcome of comparing a screenshot with its baseline. {@code diff} holds the ARGB diff image
+ * ({@code width × height}, row-major): differing pixels red, matching ones faded grey, tiles skipped after
+ * an early stop transparent. It is null when nothing was compared.
+ */
+public record DiffResult(Status status, int width, int height, long diffPixels, long maxDiffPixels, int[] diff) {
+
+    public enum Status {
+        MATCH,
+        // Comparison stopped once the mismatch budget ran out, so diffPixels is a lower bound
+        MISMATCH,
+        SIZE_MISMATCH,
+        // No baseline to compare with; a failure, as nothing was verified
+        BASELINE_MISSING,
+        // Baseline written from the screenshot under visual.update=true
+        BASELINE_RECORDED
+    }
+
+    static DiffResult baseline(Status status, int width, int height) {
+        return new DiffResult(status, width, height, 0, 0, null);
+    }
+
+    public boolean matches() {
+        return status == Status.MATCH || status == Status.BASELINE_RECORDED;
+    }
+
+    public double diffRatio() {
+        return width == 0 || height == 0 ? 0 : (double) diffPixels / ((long) width * height);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d of %d pixels differ (%.3f%%, budget %d) at %dx%d", status, diffPixels,
+                (long) width * height, diffRatio() * 100, maxDiffPixels, width, height);
+    }
+}
@@ -0,0 +1,128 @@
+package com.saucedemo.visual;
+
+import com.saucedemo.config.TestConfig;
+import com.saucedemo.utils.BrowserManager;
+import com.saucedemo.utils.EvidenceWriter;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+import org.aeonbits.owner.ConfigFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Screenshot baselines, one PNG per name and browser under {@code visual.baseline.dir}. Under
+ * {@code visual.update=true} baselines are (re)recorded from the screenshots instead of compared; otherwise
+ * a missing baseline fails the comparison, as Playwright's {@code toHaveScreenshot} does. On a mismatch the
+ * expected, actual and diff images are attached to the test the way the Allure screen-diff plugin reads
+ * them, and also written to {@code test-results/visual} for local review.
+ */
+public final class VisualBaselines {
+    private static final Logger logger = LoggerFactory.getLogger(VisualBaselines.class);
+    private static final TestConfig config = ConfigFactory.create(TestConfig.class);
+
+    private static final Path RESULTS = Paths.get("test-results/visual");
+    private static final VisualDiff visualDiff = new VisualDiff(config.visualThreshold(), config.visualMaxDiffRatio(),
+            config.visualTileSize(), ForkJoinPool.commonPool());
+
+    private VisualBaselines() {
+    }
+
+    /**
+     * Compares a PNG screenshot with the baseline of the given name for the current browser.
+     */
+    public static DiffResult compare(String name, byte[] screenshot) {
+        return compare(getBaselineDirectory(), name, screenshot, isUpdate());
+    }
+
+    /**
+     * Same as {@link #compare(String, byte[])} against baselines under {@code baselineDirectory}, recording
+     * instead of comparing when {@code update} is set; e.g. for a test that records its own baseline first.
+     */
+    public static DiffResult compare(Path baselineDirectory, String name, byte[] screenshot, boolean update) {
+        String browser = BrowserManager.getBrowserName().toLowerCase();
+        String fileName = name.replaceAll("[^a-zA-Z0-9_.-]", "_");
+        Path baseline = baselineDirectory.resolve(browser).resolve(fileName + ".png");
+        try {
+            if (update) {
+                VisualDiff.Raster raster = VisualDiff.decode(screenshot);
+                // Written synchronously: baselines are sources, and a later comparison in this run must see them
+                Files.createDirectories(baseline.getParent());
+                Files.write(baseline, screenshot);
+                logger.warn("Recorded visual baseline {} ({}x{})", baseline, raster.width(), raster.height());
+                return DiffResult.baseline(DiffResult.Status.BASELINE_RECORDED, raster.width(), raster.height());
+            }
+            if (!Files.exists(baseline)) {
+                VisualDiff.Raster raster = VisualDiff.decode(screenshot);
+                Path actual = RESULTS.resolve(browser).resolve(fileName + "-actual.png");
+                EvidenceWriter.write(actual, screenshot);
+                EvidenceWriter.attach("actual", "image/png", "png", screenshot);
+                logger.error("No visual baseline {}; screenshot written to {}, record baselines with -Dvisual.update=true",
+                        baseline, actual);
+                return DiffResult.baseline(DiffResult.Status.BASELINE_MISSING, raster.width(), raster.height());
+            }
+
+            byte[] expected = Files.readAllBytes(baseline);
+            long started = System.nanoTime();
+            DiffResult result = visualDiff.compare(expected, screenshot);
+            logger.debug("Visual diff of {} took {}ms", name, (System.nanoTime() - started) / 1_000_000);
+            if (!result.matches()) {
+                byte[] diff = VisualDiff.encodePng(result.diff(), result.width(), result.height());
+                attachDiff(expected, screenshot, diff);
+                EvidenceWriter.write(RESULTS.resolve(browser).resolve(fileName + "-actual.png"), screenshot);
+                EvidenceWriter.write(RESULTS.resolve(browser).resolve(fileName + "-diff.png"), diff);
+            }
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Visual comparison against " + baseline + " failed", e);
+        }
+    }
+
+    // The screen-diff plugin looks for this label and the expected/actual/diff attachments on the test itself,
+    // so they go on the test case even when the comparison runs inside a step
+    private static void attachDiff(byte[] expected, byte[] actual, byte[] diff) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        Optional<String> testCase = lifecycle.getCurrentTestCase();
+        if (testCase.isEmpty()) {
+            logger.debug("No running Allure test to attach the visual diff to");
+            return;
+        }
+        Allure.label("testType", "screenshotDiff");
+        attachToTestCase(lifecycle, testCase.get(), "expected", expected);
+        attachToTestCase(lifecycle, testCase.get(), "actual", actual);
+        attachToTestCase(lifecycle, testCase.get(), "diff", diff);
+    }
+
+    private static void attachToTestCase(AllureLifecycle lifecycle, String testCase, String name, byte[] png) {
+        String source = UUID.randomUUID() + "-attachment.png";
+        Attachment attachment = new Attachment().setName(name).setType("image/png").setSource(source);
+        lifecycle.updateTestCase(testCase, result -> result.getAttachments().add(attachment));
+        EvidenceWriter.writeAttachment(source, png);
+    }
+
+    /**
+     * Whether a baseline of the given name is stored for the current browser under {@code visual.baseline.dir}.
+     */
+    public static boolean hasBaseline(String name) {
+        String fileName = name.replaceAll("[^a-zA-Z0-9_.-]", "_");
+        return Files.exists(getBaselineDirectory().resolve(BrowserManager.getBrowserName().toLowerCase())
+                .resolve(fileName + ".png"));
+    }
+
+    private static Path getBaselineDirectory() {
+        return Paths.get(System.getProperty("visual.baseline.dir", config.visualBaselineDir()));
+    }
+
+    private static boolean isUpdate() {
+        return Boolean.parseBoolean(System.getProperty("visual.update", String.valueOf(config.visualUpdate())));
+    }
+}
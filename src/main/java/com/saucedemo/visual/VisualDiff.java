@@ -0,0 +1,184 @@
+package com.saucedemo.visual;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pixel diff of a screenshot against its baseline. Both images are decoded once into ARGB {@code int[]}
+ * rasters, and the union of their extents is split into square tiles that are compared in parallel on a
+ * fork-join pool. Two pixels differ when their YIQ colour distance exceeds {@code threshold} (0 = exact,
+ * 1 = anything goes), which tolerates the rendering noise the eye does not see. Tiles share one mismatch
+ * counter, and every tile stops at its next row once the budget of {@code maxDiffRatio} of all pixels is spent.
+ */
+public final class VisualDiff {
+
+    // Largest possible YIQ delta between two colours, so the threshold is a fraction of it
+    private static final double MAX_YIQ_DELTA = 35215;
+    private static final int DIFF_COLOR = 0xFFFF0000;
+
+    record Raster(int width, int height, int[] argb) {
+    }
+
+    private final double maxDelta;
+    private final double maxDiffRatio;
+    private final int tileSize;
+    private final ForkJoinPool pool;
+
+    public VisualDiff(double threshold, double maxDiffRatio, int tileSize, ForkJoinPool pool) {
+        this.maxDelta = MAX_YIQ_DELTA * threshold * threshold;
+        this.maxDiffRatio = maxDiffRatio;
+        this.tileSize = Math.max(8, tileSize);
+        this.pool = pool;
+    }
+
+    public DiffResult compare(byte[] expectedImage, byte[] actualImage) throws IOException {
+        return compare(decode(expectedImage), decode(actualImage));
+    }
+
+    DiffResult compare(Raster expected, Raster actual) {
+        Comparison comparison = new Comparison(expected, actual, maxDiffRatio);
+        pool.invoke(new TileTask(comparison, 0, 0, comparison.width, comparison.height));
+
+        long diffPixels = comparison.mismatches.get();
+        DiffResult.Status status;
+        if (expected.width() != actual.width() || expected.height() != actual.height()) {
+            status = DiffResult.Status.SIZE_MISMATCH;
+        } else {
+            status = comparison.exhausted ? DiffResult.Status.MISMATCH : DiffResult.Status.MATCH;
+        }
+        return new DiffResult(status, comparison.width, comparison.height, diffPixels, comparison.budget, comparison.diff);
+    }
+
+    static Raster decode(byte[] image) throws IOException {
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(image));
+        if (decoded == null) {
+            throw new IOException("Not a readable image (" + image.length + " bytes)");
+        }
+        int width = decoded.getWidth();
+        int height = decoded.getHeight();
+        return new Raster(width, height, decoded.getRGB(0, 0, width, height, null, 0, width));
+    }
+
+    public static byte[] encodePng(int[] argb, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, width, height, argb, 0, width);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+        return png.toByteArray();
+    }
+
+    private final class Comparison {
+        private final Raster expected;
+        private final Raster actual;
+        private final int width;
+        private final int height;
+        private final long budget;
+        private final int[] diff;
+        private final AtomicLong mismatches = new AtomicLong();
+        private volatile boolean exhausted;
+
+        private Comparison(Raster expected, Raster actual, double maxDiffRatio) {
+            this.expected = expected;
+            this.actual = actual;
+            this.width = Math.max(expected.width(), actual.width());
+            this.height = Math.max(expected.height(), actual.height());
+            this.budget = (long) Math.floor((long) width * height * maxDiffRatio);
+            this.diff = new int[width * height];
+        }
+
+        private void compareTile(int x0, int y0, int x1, int y1) {
+            for (int y = y0; y < y1 && !exhausted; y++) {
+                long rowMismatches = 0;
+                for (int x = x0; x < x1; x++) {
+                    int expectedPixel = pixel(expected, x, y);
+                    int actualPixel = pixel(actual, x, y);
+                    // Pixels outside one of the images always differ
+                    boolean outside = x >= expected.width() || y >= expected.height()
+                            || x >= actual.width() || y >= actual.height();
+                    if (outside || (expectedPixel != actualPixel && delta(expectedPixel, actualPixel) > maxDelta)) {
+                        diff[y * width + x] = DIFF_COLOR;
+                        rowMismatches++;
+                    } else {
+                        diff[y * width + x] = faded(actualPixel);
+                    }
+                }
+                if (rowMismatches > 0 && mismatches.addAndGet(rowMismatches) > budget) {
+                    exhausted = true;
+                }
+            }
+        }
+    }
+
+    private final class TileTask extends RecursiveAction {
+        private final Comparison comparison;
+        private final int x0;
+        private final int y0;
+        private final int x1;
+        private final int y1;
+
+        private TileTask(Comparison comparison, int x0, int y0, int x1, int y1) {
+            this.comparison = comparison;
+            this.x0 = x0;
+            this.y0 = y0;
+            this.x1 = x1;
+            this.y1 = y1;
+        }
+
+        @Override
+        protected void compute() {
+            if (comparison.exhausted) {
+                return;
+            }
+            if (x1 - x0 <= tileSize && y1 - y0 <= tileSize) {
+                comparison.compareTile(x0, y0, x1, y1);
+            } else if (x1 - x0 >= y1 - y0) {
+                int split = x0 + (x1 - x0) / 2;
+                invokeAll(new TileTask(comparison, x0, y0, split, y1), new TileTask(comparison, split, y0, x1, y1));
+            } else {
+                int split = y0 + (y1 - y0) / 2;
+                invokeAll(new TileTask(comparison, x0, y0, x1, split), new TileTask(comparison, x0, split, x1, y1));
+            }
+        }
+    }
+
+    private static int pixel(Raster raster, int x, int y) {
+        return x < raster.width() && y < raster.height() ? raster.argb()[y * raster.width() + x] : 0;
+    }
+
+    // Squared YIQ distance of both colours blended onto white, weighted as in pixelmatch
+    private static double delta(int first, int second) {
+        double r1 = blend(first >> 16 & 0xFF, first >>> 24);
+        double g1 = blend(first >> 8 & 0xFF, first >>> 24);
+        double b1 = blend(first & 0xFF, first >>> 24);
+        double r2 = blend(second >> 16 & 0xFF, second >>> 24);
+        double g2 = blend(second >> 8 & 0xFF, second >>> 24);
+        double b2 = blend(second & 0xFF, second >>> 24);
+
+        double y = luma(r1, g1, b1) - luma(r2, g2, b2);
+        double i = (r1 * 0.59597799 - g1 * 0.27417610 - b1 * 0.32180189) - (r2 * 0.59597799 - g2 * 0.27417610 - b2 * 0.32180189);
+        double q = (r1 * 0.21147017 - g1 * 0.52261711 + b1 * 0.31114694) - (r2 * 0.21147017 - g2 * 0.52261711 + b2 * 0.31114694);
+        return 0.5053 * y * y + 0.299 * i * i + 0.1957 * q * q;
+    }
+
+    private static double blend(int channel, int alpha) {
+        return 255 + (channel - 255) * alpha / 255.0;
+    }
+
+    private static double luma(double r, double g, double b) {
+        return r * 0.29889531 + g * 0.58662247 + b * 0.11448223;
+    }
+
+    // Matching pixels are drawn as a pale greyscale of the screenshot so the red differences stand out
+    private static int faded(int pixel) {
+        int alpha = pixel >>> 24;
+        double gray = luma(blend(pixel >> 16 & 0xFF, alpha), blend(pixel >> 8 & 0xFF, alpha), blend(pixel & 0xFF, alpha));
+        int value = (int) Math.round(255 + (gray - 255) * 0.1);
+        return 0xFF000000 | value << 16 | value << 8 | value;
+    }
+}
@@ -0,0 +1,77 @@
+// In-page probe library registered once per browser context by BrowserManager.createContext.
+// Each probe reads a whole page section in one pass and returns plain JSON-serialisable data.
+(() => {
+    if (window.__sauceProbe) {
+        return;
+    }
+
+    const text = (root, selector) => {
+        const el = root.querySelector(selector);
+        return el ? el.textContent : null;
+    };
+
+    const intText = (root, selector) => {
+        const value = text(root, selector);
+        return value === null ? 0 : (parseInt(value, 10) || 0);
+    };
+
+    const lineItems = () => Array.from(document.querySelectorAll('.cart_item')).map(item => ({
+        name: text(item, '.inventory_item_name'),
+        description: text(item, '.inventory_item_desc'),
+        price: text(item, '.inventory_item_price'),
+        quantity: intText(item, '.cart_quantity')
+    }));
+
+    window.__sauceProbe = {
+        snapshotInventory: () => {
+            const sort = document.querySelector("[data-test='product_sort_container']");
+            return {
+                products: Array.from(document.querySelectorAll('.inventory_item')).map(item => {
+                    const image = item.querySelector('img.inventory_item_img');
+                    const button = item.querySelector('button');
+                    const link = item.querySelector("a[id$='_title_link']");
+                    return {
+                        id: link ? parseInt(link.id.split('_')[1], 10) : null,
+                        name: text(item, '.inventory_item_name'),
+                        description: text(item, '.inventory_item_desc'),
+                        price: text(item, '.inventory_item_price'),
+                        imageSrc: image ? image.getAttribute('src') : null,
+                        inCart: !!button && button.id.startsWith('remove')
+                    };
+                }),
+                cartBadgeCount: intText(document, '.shopping_cart_badge'),
+                sortOption: sort ? sort.value : null
+            };
+        },
+
+        snapshotProductDetails: () => {
+            const image = document.querySelector('img.inventory_details_img');
+            return {
+                name: text(document, '.inventory_details_name'),
+                description: text(document, '.inventory_details_desc'),
+                price: text(document, '.inventory_details_price'),
+                imageSrc: image ? image.getAttribute('src') : null
+            };
+        },
+
+        snapshotCart: () => ({
+            items: lineItems(),
+            cartBadgeCount: intText(document, '.shopping_cart_badge')
+        }),
+
+        snapshotCheckoutSummary: () => ({
+            items: lineItems(),
+            paymentInformation: text(document, "[data-test='payment-info-value']"),
+            shippingInformation: text(document, "[data-test='shipping-info-value']"),
+            itemTotal: text(document, '.summary_subtotal_label'),
+            tax: text(document, '.summary_tax_label'),
+            total: text(document, '.summary_total_label')
+        }),
+
+        formErrors: () => ({
+            message: text(document, "[data-test='error']"),
+            invalidFields: Array.from(document.querySelectorAll('input.error'))
+                .map(input => input.getAttribute('data-test') || input.id)
+        })
+    };
+})();
@@ -0,0 +1,74 @@
+package com.saucedemo.benchmarks;
+
+import com.saucedemo.catalog.CatalogColumns;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the string-based price order check used by the UI tests (parse "$xx.xx" strings,
+ * sort a copy, compare lists) with the columnar long-cents check in {@link CatalogColumns}.
+ * Run with: mvn -Pbenchmarks process-test-classes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogPriceOrderBenchmark {
+
+    @Param({"6", "10000", "1000000"})
+    private int catalogSize;
+
+    private List<String> names;
+    private List<String> prices;
+    private CatalogColumns columns;
+
+    @Setup
+    public void setUp() {
+        CatalogColumns sorted = CatalogColumns.synthetic(catalogSize, 42L).withPricesSorted(true);
+        names = new ArrayList<>(catalogSize);
+        prices = new ArrayList<>(catalogSize);
+        for (int i = 0; i < sorted.size(); i++) {
+            long cents = sorted.priceCentsAt(i);
+            names.add(sorted.nameAt(i));
+            prices.add(String.format("$%d.%02d", cents / 100, cents % 100));
+        }
+        columns = CatalogColumns.of(names, prices);
+    }
+
+    @Benchmark
+    public boolean stringListSortedCopy() {
+        List<Double> parsed = new ArrayList<>(prices.size());
+        for (String price : prices) {
+            parsed.add(Double.parseDouble(price.substring(1)));
+        }
+        List<Double> expected = new ArrayList<>(parsed);
+        expected.sort(Comparator.naturalOrder());
+        return parsed.equals(expected);
+    }
+
+    @Benchmark
+    public boolean columnarParseAndCheck() {
+        return CatalogColumns.of(names, prices).isPriceAscending();
+    }
+
+    @Benchmark
+    public boolean columnarCheckOnly() {
+        return columns.isPriceAscending();
+    }
+}
@@ -1,7 +1,15 @@
 package com.saucedemo.tests;
 
+import com.saucedemo.catalog.ProductCatalog;
 import com.saucedemo.config.TestConfig;
+import com.saucedemo.flow.Flow;
+import com.saucedemo.pages.LoginPage;
 import com.saucedemo.utils.BrowserManager;
+import com.saucedemo.utils.EvidenceManager;
+import com.saucedemo.utils.EvidenceWriter;
+import com.saucedemo.utils.NavigationTimings;
+import com.saucedemo.utils.ScreenshotStore;
+import com.saucedemo.utils.TraceSlimmer;
 import org.aeonbits.owner.ConfigFactory;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -16,6 +24,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.stream.Stream;
 
 @ExtendWith(TestResultListener.class)
 public abstract class BaseTest {
@@ -33,41 +42,64 @@ public abstract class BaseTest {
         cleanOncePerMavenRun();
         createDirectories();
         BrowserManager.initializePlaywright();
+
+        // Resolve the shared product catalog once per run; the first class pays for the bulk drift check
+        catalog();
+    }
+
+    /**
+     * Read-only product catalog shared by all test classes, used as the expected-value oracle.
+     */
+    protected static ProductCatalog catalog() {
+        return CatalogFixture.get(config);
     }
 
     @BeforeEach
-    void setUp() {
+    void setUp(TestInfo testInfo) {
         logger.info("Starting test: {}", getTestName());
+        EvidenceManager.begin(testInfo.getTestClass().map(Class::getSimpleName).orElse("Unknown")
+                + "." + testInfo.getDisplayName());
         
         // Ensure Playwright is initialized (in case it was closed in previous test teardown)
         BrowserManager.initializePlaywright();
         
         BrowserManager.createBrowser();
-        BrowserManager.createContext();
+        String storageState = startingStorageState(testInfo);
+        if (usesRealTimeAnimations(testInfo)) {
+            logger.info("Real-time animations requested for: {}", testInfo.getDisplayName());
+            BrowserManager.createContext(false, storageState);
+        } else {
+            BrowserManager.createContext(storageState);
+        }
         BrowserManager.createPage();
+        BrowserManager.startTraceChunk(testInfo.getDisplayName());
+        EvidenceManager.startScreencast();
         
-        // Navigate to base URL
-        BrowserManager.getPage().navigate(config.baseUrl());
+        // Navigate to base URL; returns as soon as the login form is usable rather than on window load
+        new LoginPage().navigateTo(config.baseUrl());
         logger.info("Navigated to: {}", config.baseUrl());
     }
 
     @AfterEach
     void tearDown(TestInfo testInfo) {
         logger.info("Tearing down test: {}", getTestName());
+        BrowserManager.settleNavigationTimings();
         
-        // Take screenshot before closing browser for all tests (especially failed ones)
-        // This ensures screenshot is available when TestResultListener tries to attach it
-        try {
-            if (BrowserManager.getPage() != null && !BrowserManager.getPage().isClosed()) {
-                String screenshotName = getTestName() + "_" + testInfo.getDisplayName().replaceAll("[^a-zA-Z0-9]", "_") + "_" + getTimestamp();
-                BrowserManager.takeScreenshot(screenshotName);
-                logger.info("Screenshot taken before browser cleanup: {}", screenshotName);
-                // Note: Screenshot file saved for TestResultListener to attach to Allure
-            }
-        } catch (Exception e) {
-            logger.warn("Could not take screenshot in tearDown: {}", e.getMessage());
+        // Failures were already captured when the test threw; only ALWAYS mode screenshots passing tests
+        if (EvidenceManager.isScreenshotMode("ALWAYS")) {
+            EvidenceManager.captureScreenshot("teardown");
         }
-        
+
+        // Keep or drop this test's trace chunk before the context goes away
+        EvidenceManager.finishTrace();
+
+        // Videos are only finalised when their context closes, so close it here on the owning thread;
+        // TestResultListener keeps or deletes the files once the outcome is known
+        if (BrowserManager.isVideoRecording()) {
+            BrowserManager.closeContext();
+            EvidenceManager.captureVideo();
+        }
+
         // Enhanced cleanup: Ensure complete browser closure after each test
         // This allows running entire test classes in visible mode without hanging
         try {
@@ -96,6 +128,13 @@ public abstract class BaseTest {
     @AfterAll
     static void tearDownAll() {
         logger.info("Tearing down test environment");
+        NavigationTimings.logSummary();
+
+        ScreenshotStore.writeManifests();
+
+        // Barrier: every queued screenshot and attachment of this class is on disk before results are read or cleaned
+        EvidenceWriter.flush();
+        TraceSlimmer.logSummary();
         
         // No need to close Playwright here - it's closed after each individual test
         // This ensures better isolation and prevents browser process accumulation
@@ -112,6 +151,23 @@ public abstract class BaseTest {
         logger.info("Test class '{}' completed - Enhanced cleanup ensures no browser processes remain", getTestClassName());
     }
 
+    private static boolean usesRealTimeAnimations(TestInfo testInfo) {
+        return testInfo.getTestMethod().map(method -> method.isAnnotationPresent(RealTimeAnimations.class)).orElse(false)
+                || testInfo.getTestClass().map(type -> type.isAnnotationPresent(RealTimeAnimations.class)).orElse(false);
+    }
+
+    // Storage state of the deepest fresh snapshot along the test's @StartsFrom flow, so the test skips steps already walked
+    private static String startingStorageState(TestInfo testInfo) {
+        StartsFrom startsFrom = testInfo.getTestMethod().map(method -> method.getAnnotation(StartsFrom.class))
+                .or(() -> testInfo.getTestClass().map(type -> type.getAnnotation(StartsFrom.class)))
+                .orElse(null);
+        if (startsFrom == null) {
+            Flow.clearResumed();
+            return null;
+        }
+        return Flows.named(startsFrom.value()).storageState();
+    }
+
     protected String getTestName() {
         return this.getClass().getSimpleName();
     }
@@ -254,11 +310,11 @@ public abstract class BaseTest {
     
     private static long countExistingScreenshots() {
         try {
-            Path screenshotsDir = Paths.get("test-results/screenshots");
+            Path screenshotsDir = ScreenshotStore.ROOT;
             if (Files.exists(screenshotsDir)) {
-                return Files.list(screenshotsDir)
-                    .filter(path -> path.toString().endsWith(".png"))
-                    .count();
+                try (Stream<Path> files = Files.walk(screenshotsDir)) {
+                    return files.filter(Files::isRegularFile).count();
+                }
             }
         } catch (Exception e) {
             logger.debug("Could not count existing screenshots: {}", e.getMessage());
@@ -268,12 +324,12 @@ public abstract class BaseTest {
     
     private static void cleanAllScreenshotsInternal() {
         try {
-            Path screenshotsDir = Paths.get("test-results/screenshots");
+            Path screenshotsDir = ScreenshotStore.ROOT;
             if (Files.exists(screenshotsDir)) {
                 long deletedCount = 0;
-                try {
-                    deletedCount = Files.list(screenshotsDir)
-                        .filter(path -> path.toString().endsWith(".png"))
+                try (Stream<Path> files = Files.walk(screenshotsDir)) {
+                    deletedCount = files
+                        .filter(Files::isRegularFile)
                         .mapToLong(path -> {
                             try {
                                 Files.delete(path);
@@ -285,6 +341,7 @@ public abstract class BaseTest {
                             }
                         })
                         .sum();
+                    ScreenshotStore.reset();
                     logger.info("Deleted {} previous screenshots", deletedCount);
                 } catch (Exception e) {
                     logger.warn("Error listing screenshot files: {}", e.getMessage());
@@ -297,11 +354,11 @@ public abstract class BaseTest {
     
     private static void cleanAllScreenshots() {
         try {
-            Path screenshotsDir = Paths.get("test-results/screenshots");
+            Path screenshotsDir = ScreenshotStore.ROOT;
             if (Files.exists(screenshotsDir)) {
-                try {
-                    Files.list(screenshotsDir)
-                        .filter(path -> path.toString().endsWith(".png"))
+                try (Stream<Path> files = Files.walk(screenshotsDir)) {
+                    files
+                        .filter(Files::isRegularFile)
                         .forEach(path -> {
                             try {
                                 Files.delete(path);
@@ -310,6 +367,7 @@ public abstract class BaseTest {
                                 logger.debug("Could not delete screenshot: {}", path.getFileName());
                             }
                         });
+                    ScreenshotStore.reset();
                     logger.info("All screenshots cleaned after test run");
                 } catch (Exception e) {
                     logger.warn("Error listing screenshots for cleanup: {}", e.getMessage());
@@ -321,8 +379,9 @@ public abstract class BaseTest {
     }
     
     private static boolean shouldCleanScreenshotsAfterRun() {
-        // Clean screenshots after run by default, unless explicitly disabled
-        return !System.getProperty("screenshot.cleanup", "true").equalsIgnoreCase("false");
+        // Opt-in: the store's blobs and manifests are the run's screenshot evidence, and the first test class
+        // of the next Maven run clears them anyway
+        return Boolean.parseBoolean(System.getProperty("screenshot.cleanup", "false"));
     }
     
     // Removed shouldCleanAllureAfterRun() - we never clean Allure results during test run
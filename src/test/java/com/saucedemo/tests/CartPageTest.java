@@ -1,5 +1,6 @@
 package com.saucedemo.tests;
 
+import com.saucedemo.catalog.CatalogProduct;
 import com.saucedemo.pages.LoginPage;
 import com.saucedemo.pages.InventoryPage;
 import com.saucedemo.pages.CartPage;
@@ -9,6 +10,7 @@ import io.qameta.allure.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -19,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.*;
 @Epic("Sauce Demo E-commerce")
 @Feature("Shopping Cart Management")
 @Owner("QA Team")
+@TestInstance(TestInstance.Lifecycle.PER_METHOD)
 public class CartPageTest extends BaseTest {
 
     private CartPage cartPage;
@@ -139,6 +142,7 @@ public class CartPageTest extends BaseTest {
     }
 
     @ParameterizedTest
+    @ConcurrentInvocations
     @DisplayName("Verify cart item details for different products")
     @Description("Test that different products display correct information in cart")
     @Severity(SeverityLevel.NORMAL)
@@ -157,15 +161,14 @@ public class CartPageTest extends BaseTest {
         
         // Add specific product
         InventoryPage returnedInventoryPage = cartPage.continueShopping();
-        String expectedPrice = returnedInventoryPage.getProductPrice(productName);
-        String expectedDescription = returnedInventoryPage.getProductDescription(productName);
+        CatalogProduct expected = catalog().get(productName);
         returnedInventoryPage.addProductToCart(productName);
         CartPage updatedCartPage = returnedInventoryPage.clickShoppingCart();
         
         // Verify product details in cart
         assertTrue(updatedCartPage.isItemInCart(productName), "Product should be in cart");
-        assertEquals(expectedPrice, updatedCartPage.getItemPrice(productName), "Price should match");
-        assertEquals(expectedDescription, updatedCartPage.getItemDescription(productName), "Description should match");
+        assertEquals(expected.price(), updatedCartPage.getItemPrice(productName), "Price should match");
+        assertEquals(expected.description(), updatedCartPage.getItemDescription(productName), "Description should match");
         assertEquals(1, updatedCartPage.getItemQuantity(productName), "Quantity should be 1");
     }
 
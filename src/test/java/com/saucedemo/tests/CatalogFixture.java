@@ -0,0 +1,105 @@
+package com.saucedemo.tests;
+
+import com.saucedemo.catalog.ProductCatalog;
+import com.saucedemo.config.TestConfig;
+import com.saucedemo.pages.InventoryPage;
+import com.saucedemo.pages.LoginPage;
+import com.saucedemo.utils.BrowserManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Run-scoped product catalog shared read-only by every test class and worker in the JVM.
+ * Resolved once on first use: either loaded from the versioned resource and checked for drift against the
+ * live inventory in one bulk comparison (replaced by the live values only under {@code catalog.drift=ADOPT}), or extracted from the live inventory when {@code catalog.source=LIVE}.
+ */
+final class CatalogFixture {
+    private static final Logger logger = LoggerFactory.getLogger(CatalogFixture.class);
+
+    private static volatile ProductCatalog catalog;
+    private static volatile IllegalStateException failure;
+
+    private CatalogFixture() {
+    }
+
+    static ProductCatalog get(TestConfig config) {
+        ProductCatalog resolved = catalog;
+        if (resolved == null && failure == null) {
+            synchronized (CatalogFixture.class) {
+                if (catalog == null && failure == null) {
+                    try {
+                        catalog = resolve(config);
+                    } catch (IllegalStateException e) {
+                        failure = e;
+                    }
+                }
+                resolved = catalog;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return resolved;
+    }
+
+    private static ProductCatalog resolve(TestConfig config) {
+        String source = config.catalogSource().toUpperCase();
+        String driftPolicy = config.catalogDrift().toUpperCase();
+
+        if (source.equals("LIVE")) {
+            ProductCatalog live = extractLiveCatalog(config);
+            logger.info("Using catalog extracted from live inventory: {}", live);
+            return live;
+        }
+
+        ProductCatalog expected = ProductCatalog.fromResource(config.catalogResource());
+        logger.info("Loaded catalog fixture {} from {}", expected, config.catalogResource());
+        if (driftPolicy.equals("OFF")) {
+            return expected;
+        }
+
+        ProductCatalog live;
+        try {
+            live = extractLiveCatalog(config);
+        } catch (RuntimeException e) {
+            if (driftPolicy.equals("FAIL")) {
+                throw new IllegalStateException("Could not read live inventory for catalog drift check", e);
+            }
+            logger.warn("Skipping catalog drift check, live inventory unavailable: {}", e.getMessage());
+            return expected;
+        }
+
+        List<String> drift = expected.diff(live);
+        if (drift.isEmpty()) {
+            logger.info("Catalog fixture {} matches live inventory", expected.getVersion());
+            return expected;
+        }
+        if (driftPolicy.equals("FAIL")) {
+            throw new IllegalStateException("Catalog fixture " + expected.getVersion() + " drifted from live inventory: " + drift);
+        }
+        if (driftPolicy.equals("ADOPT")) {
+            logger.warn("Catalog fixture {} drifted from live inventory, using live values instead: {}", expected.getVersion(), drift);
+            return live;
+        }
+        // The fixture stays the oracle, so catalog assertions still catch the drift as failures
+        logger.warn("Catalog fixture {} drifted from live inventory: {}", expected.getVersion(), drift);
+        return expected;
+    }
+
+    private static ProductCatalog extractLiveCatalog(TestConfig config) {
+        BrowserManager.initializePlaywright();
+        BrowserManager.createBrowser();
+        BrowserManager.createContext();
+        BrowserManager.createPage();
+        try {
+            LoginPage loginPage = new LoginPage();
+            loginPage.navigateTo(config.baseUrl());
+            InventoryPage inventoryPage = loginPage.login(config.validUsername(), config.validPassword());
+            return inventoryPage.extractCatalog("live");
+        } finally {
+            BrowserManager.forceCleanup();
+        }
+    }
+}
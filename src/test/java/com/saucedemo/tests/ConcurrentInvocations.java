@@ -0,0 +1,22 @@
+package com.saucedemo.tests;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the invocations of a parameterized test concurrently, each in its own context of one shared browser.
+ * Every invocation still gets its own setup, teardown, Allure result and evidence. The test class must use
+ * {@code @TestInstance(Lifecycle.PER_METHOD)} so invocations do not share page-object fields.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Execution(ExecutionMode.CONCURRENT)
+@ExtendWith(SiblingContextExtension.class)
+public @interface ConcurrentInvocations {
+}
@@ -4,6 +4,7 @@ import com.saucedemo.pages.*;
 import io.qameta.allure.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -14,6 +15,7 @@ import static org.junit.jupiter.api.Assertions.*;
 @Epic("Sauce Demo E-commerce")
 @Feature("End-to-End Shopping Flow")
 @Owner("QA Team")
+@TestInstance(TestInstance.Lifecycle.PER_METHOD)
 public class E2ETest extends BaseTest {
 
     @Test
@@ -66,20 +68,18 @@ public class E2ETest extends BaseTest {
     }
 
     @Test
+    @StartsFrom(Flows.STANDARD_USER)
     @DisplayName("Complete purchase flow - multiple items")
     @Description("Test complete end-to-end purchase flow with multiple items")
     @Severity(SeverityLevel.BLOCKER)
     @Story("Complete Purchase Flow")
     public void testCompleteMultipleItemsPurchase() {
         // Login
-        LoginPage loginPage = new LoginPage();
-        InventoryPage inventoryPage = loginPage.login("standard_user", "secret_sauce");
+        InventoryPage inventoryPage = Flows.standardUser.enter();
 
         // Add multiple products to cart
-        String[] products = {"Sauce Labs Backpack", "Sauce Labs Bike Light", "Sauce Labs Bolt T-Shirt"};
-        for (String product : products) {
-            inventoryPage.addProductToCart(product);
-        }
+        List<String> products = List.of("Sauce Labs Backpack", "Sauce Labs Bike Light", "Sauce Labs Bolt T-Shirt");
+        inventoryPage.addProductsToCart(products);
         assertEquals(3, inventoryPage.getCartItemCount(), "Cart should have 3 items");
 
         // Go to cart and verify all items
@@ -99,7 +99,31 @@ public class E2ETest extends BaseTest {
                 "Order should be completed successfully");
     }
 
+    @Test
+    @StartsFrom(Flows.STANDARD_USER)
+    @DisplayName("Sort, add items and open cart in one transaction")
+    @Description("Test that a batched inventory transaction sorts, adds items and opens the cart")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Complete Purchase Flow")
+    public void testBatchedSortAddAndOpenCart() {
+        InventoryPage inventoryPage = Flows.standardUser.enter();
+
+        List<String> products = List.of("Sauce Labs Onesie", "Sauce Labs Bike Light", "Sauce Labs Bolt T-Shirt");
+        CartPage cartPage = inventoryPage.batch("Sort by price, add three items, open cart")
+                .sortProducts("lohi")
+                .addProductsToCart(products)
+                .openCart();
+
+        assertTrue(cartPage.isCartPageLoaded(), "Should be on cart page");
+        List<String> cartItems = cartPage.getCartItemNames();
+        assertEquals(3, cartItems.size(), "Cart should have 3 items");
+        assertTrue(cartItems.containsAll(products), "Cart should contain all added items");
+        assertEquals(3, cartPage.getShoppingCartBadgeCount(), "Cart badge should show 3");
+    }
+
     @ParameterizedTest
+    @StartsFrom(Flows.BACKPACK_IN_CART)
+    @ConcurrentInvocations
     @DisplayName("Checkout with different user information")
     @Description("Test checkout process with various user information combinations")
     @Severity(SeverityLevel.NORMAL)
@@ -112,12 +136,9 @@ public class E2ETest extends BaseTest {
     })
     public void testCheckoutWithDifferentUserInfo(String firstName, String lastName, String postalCode) {
         // Login and add product
-        LoginPage loginPage = new LoginPage();
-        InventoryPage inventoryPage = loginPage.login("standard_user", "secret_sauce");
-        inventoryPage.addProductToCart("Sauce Labs Backpack");
+        CartPage cartPage = Flows.backpackInCart.enter();
 
         // Complete checkout with provided information
-        CartPage cartPage = inventoryPage.clickShoppingCart();
         CheckoutPage checkoutPage = cartPage.proceedToCheckout();
         checkoutPage.completeCheckout(firstName, lastName, postalCode);
 
@@ -126,19 +147,17 @@ public class E2ETest extends BaseTest {
     }
 
     @Test
+    @StartsFrom(Flows.STANDARD_USER)
     @DisplayName("Shopping cart management throughout flow")
     @Description("Test adding/removing items during shopping flow")
     @Severity(SeverityLevel.CRITICAL)
     @Story("Shopping Cart Management")
     public void testShoppingCartManagement() {
         // Login
-        LoginPage loginPage = new LoginPage();
-        InventoryPage inventoryPage = loginPage.login("standard_user", "secret_sauce");
+        InventoryPage inventoryPage = Flows.standardUser.enter();
 
         // Add multiple items
-        inventoryPage.addProductToCart("Sauce Labs Backpack");
-        inventoryPage.addProductToCart("Sauce Labs Bike Light");
-        inventoryPage.addProductToCart("Sauce Labs Bolt T-Shirt");
+        inventoryPage.addProductsToCart(List.of("Sauce Labs Backpack", "Sauce Labs Bike Light", "Sauce Labs Bolt T-Shirt"));
         assertEquals(3, inventoryPage.getCartItemCount(), "Should have 3 items");
 
         // Go to cart and remove one item
@@ -160,14 +179,14 @@ public class E2ETest extends BaseTest {
     }
 
     @Test
+    @StartsFrom(Flows.STANDARD_USER)
     @DisplayName("Product details to purchase flow")
     @Description("Test purchasing workflow starting from product details page")
     @Severity(SeverityLevel.NORMAL)
     @Story("Product Details Flow")
     public void testProductDetailsToPurchaseFlow() {
         // Login and navigate to product details
-        LoginPage loginPage = new LoginPage();
-        InventoryPage inventoryPage = loginPage.login("standard_user", "secret_sauce");
+        InventoryPage inventoryPage = Flows.standardUser.enter();
         
         String productName = "Sauce Labs Backpack";
         ProductDetailsPage productDetailsPage = inventoryPage.clickProductName(productName);
@@ -189,17 +208,15 @@ public class E2ETest extends BaseTest {
     }
 
     @Test
+    @StartsFrom(Flows.BACKPACK_IN_CART)
     @DisplayName("Checkout validation - missing information")
     @Description("Test checkout form validation with missing required fields")
     @Severity(SeverityLevel.CRITICAL)
     @Story("Checkout Validation")
     public void testCheckoutValidationMissingInfo() {
         // Login and add product
-        LoginPage loginPage = new LoginPage();
-        InventoryPage inventoryPage = loginPage.login("standard_user", "secret_sauce");
-        inventoryPage.addProductToCart("Sauce Labs Backpack");
+        CartPage cartPage = Flows.backpackInCart.enter();
 
-        CartPage cartPage = inventoryPage.clickShoppingCart();
         CheckoutPage checkoutPage = cartPage.proceedToCheckout();
 
         // Try to continue without filling required fields
@@ -230,18 +247,15 @@ public class E2ETest extends BaseTest {
     }
 
     @Test
+    @StartsFrom(Flows.BACKPACK_IN_CART)
     @DisplayName("Cancel checkout process")
     @Description("Test canceling checkout at various stages")
     @Severity(SeverityLevel.NORMAL)
     @Story("Checkout Process")
     public void testCancelCheckoutProcess() {
         // Login and add product
-        LoginPage loginPage = new LoginPage();
-        InventoryPage inventoryPage = loginPage.login("standard_user", "secret_sauce");
-        inventoryPage.addProductToCart("Sauce Labs Backpack");
+        CartPage cartPage = Flows.backpackInCart.enter();
 
-        // Go to cart and proceed to checkout
-        CartPage cartPage = inventoryPage.clickShoppingCart();
         CheckoutPage checkoutPage = cartPage.proceedToCheckout();
         assertTrue(checkoutPage.isCheckoutInformationPageLoaded(), "Should be on checkout page");
 
@@ -252,14 +266,14 @@ public class E2ETest extends BaseTest {
     }
 
     @Test
+    @StartsFrom(Flows.STANDARD_USER)
     @DisplayName("Price verification throughout purchase flow")
     @Description("Test that prices remain consistent throughout the entire purchase flow")
     @Severity(SeverityLevel.CRITICAL)
     @Story("Price Consistency")
     public void testPriceConsistencyThroughoutFlow() {
         // Login
-        LoginPage loginPage = new LoginPage();
-        InventoryPage inventoryPage = loginPage.login("standard_user", "secret_sauce");
+        InventoryPage inventoryPage = Flows.standardUser.enter();
 
         // Get price from inventory page
         String productName = "Sauce Labs Backpack";
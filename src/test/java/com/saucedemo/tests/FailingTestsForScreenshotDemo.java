@@ -167,12 +167,9 @@ public class FailingTestsForScreenshotDemo extends BaseTest {
     @Severity(SeverityLevel.MINOR)
     @Story("Screenshot Demo - Menu Failure")
     public void demoMenuFailureScreenshot() {
-        // Open menu
+        // Open menu (returns once the menu has finished opening)
         inventoryPage.openMenu();
         
-        // Wait for menu to open
-        try { Thread.sleep(500); } catch (InterruptedException e) {}
-        
         // This assertion will fail to show menu in open state
         assertFalse(true, 
                 "INTENTIONAL FAILURE: This always fails to capture screenshot with menu open");
@@ -0,0 +1,44 @@
+package com.saucedemo.tests;
+
+import com.saucedemo.flow.Flow;
+import com.saucedemo.pages.CartPage;
+import com.saucedemo.pages.InventoryPage;
+import com.saucedemo.pages.LoginPage;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Setup prefixes shared across test classes, referenced by name from {@link StartsFrom}.
+ */
+final class Flows {
+    static final String STANDARD_USER = "standard_user logged in";
+    static final String BACKPACK_IN_CART = "standard_user with backpack in cart";
+    static final String BACKPACK_AND_BIKE_LIGHT_IN_CART = "standard_user with backpack and bike light in cart";
+
+    static final Flow<InventoryPage> standardUser = Flow.start(STANDARD_USER,
+            () -> new LoginPage().login("standard_user", "secret_sauce"), InventoryPage::new);
+
+    static final Flow<CartPage> backpackInCart = standardUser.then(BACKPACK_IN_CART,
+            inventoryPage -> inventoryPage.addProductToCart("Sauce Labs Backpack").clickShoppingCart(), CartPage::new);
+
+    static final Flow<CartPage> backpackAndBikeLightInCart = standardUser.then(BACKPACK_AND_BIKE_LIGHT_IN_CART,
+            inventoryPage -> inventoryPage.addProductToCart("Sauce Labs Backpack")
+                    .addProductToCart("Sauce Labs Bike Light")
+                    .clickShoppingCart(), CartPage::new);
+
+    private static final Map<String, Flow<?>> byName = Stream.of(standardUser, backpackInCart, backpackAndBikeLightInCart)
+            .collect(Collectors.toMap(Flow::getName, flow -> flow));
+
+    private Flows() {
+    }
+
+    static Flow<?> named(String name) {
+        Flow<?> flow = byName.get(name);
+        if (flow == null) {
+            throw new IllegalArgumentException("Unknown flow: " + name);
+        }
+        return flow;
+    }
+}
@@ -1,16 +1,24 @@
 package com.saucedemo.tests;
 
+import com.saucedemo.catalog.CatalogColumns;
+import com.saucedemo.catalog.CatalogProduct;
+import com.saucedemo.catalog.ProductCatalog;
 import com.saucedemo.pages.LoginPage;
 import com.saucedemo.pages.InventoryPage;
 import com.saucedemo.pages.ProductDetailsPage;
 import com.saucedemo.pages.CartPage;
+import com.saucedemo.visual.DiffResult;
+import com.saucedemo.visual.VisualBaselines;
 import io.qameta.allure.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.file.Path;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -48,12 +56,9 @@ public class InventoryTest extends BaseTest {
         List<String> productNames = inventoryPage.getProductNames();
         
         assertEquals(6, productNames.size(), "Should have 6 product names");
-        assertTrue(productNames.contains("Sauce Labs Backpack"), "Should contain Sauce Labs Backpack");
-        assertTrue(productNames.contains("Sauce Labs Bike Light"), "Should contain Sauce Labs Bike Light");
-        assertTrue(productNames.contains("Sauce Labs Bolt T-Shirt"), "Should contain Sauce Labs Bolt T-Shirt");
-        assertTrue(productNames.contains("Sauce Labs Fleece Jacket"), "Should contain Sauce Labs Fleece Jacket");
-        assertTrue(productNames.contains("Sauce Labs Onesie"), "Should contain Sauce Labs Onesie");
-        assertTrue(productNames.contains("Test.allTheThings() T-Shirt (Red)"), "Should contain Test.allTheThings() T-Shirt");
+        for (String expectedName : catalog().getProductNames()) {
+            assertTrue(productNames.contains(expectedName), "Should contain " + expectedName);
+        }
     }
 
     @Test
@@ -162,16 +167,19 @@ public class InventoryTest extends BaseTest {
         inventoryPage.sortProducts("za");
         List<String> reverseOrder = inventoryPage.getProductNames();
         assertNotEquals(defaultOrder, reverseOrder, "Order should change after sorting Z to A");
+        assertTrue(inventoryPage.getCatalogColumns().isNameDescending(), "Names should be sorted Z to A");
         
         // Sort by price low to high
         inventoryPage.sortProducts("lohi");
-        List<String> priceOrderLowHigh = inventoryPage.getProductNames();
-        assertNotEquals(reverseOrder, priceOrderLowHigh, "Order should change when sorting by price");
+        CatalogColumns priceOrderLowHigh = inventoryPage.getCatalogColumns();
+        assertEquals(-1, priceOrderLowHigh.firstPriceViolation(true), "Prices should be sorted low to high");
         
         // Sort by price high to low
         inventoryPage.sortProducts("hilo");
-        List<String> priceOrderHighLow = inventoryPage.getProductNames();
-        assertNotEquals(priceOrderLowHigh, priceOrderHighLow, "Order should change when sorting high to low");
+        CatalogColumns priceOrderHighLow = inventoryPage.getCatalogColumns();
+        assertEquals(-1, priceOrderHighLow.firstPriceViolation(false), "Prices should be sorted high to low");
+        assertNotEquals(priceOrderLowHigh.nameAt(0), priceOrderHighLow.nameAt(0),
+                "Order should change when sorting high to low");
     }
 
     @Test
@@ -181,8 +189,7 @@ public class InventoryTest extends BaseTest {
     @Story("Product Display")
     public void testNavigateToProductDetails() {
         String productName = "Sauce Labs Backpack";
-        String expectedPrice = inventoryPage.getProductPrice(productName);
-        String expectedDescription = inventoryPage.getProductDescription(productName);
+        CatalogProduct expected = catalog().get(productName);
         
         ProductDetailsPage productDetailsPage = inventoryPage.clickProductName(productName);
         
@@ -190,9 +197,9 @@ public class InventoryTest extends BaseTest {
                 "Product details page should be loaded");
         assertEquals(productName, productDetailsPage.getProductName(), 
                 "Product name should match");
-        assertEquals(expectedPrice, productDetailsPage.getProductPrice(), 
+        assertEquals(expected.price(), productDetailsPage.getProductPrice(), 
                 "Product price should match");
-        assertEquals(expectedDescription, productDetailsPage.getProductDescription(), 
+        assertEquals(expected.description(), productDetailsPage.getProductDescription(), 
                 "Product description should match");
     }
 
@@ -221,8 +228,7 @@ public class InventoryTest extends BaseTest {
     @Story("Navigation")
     public void testMenuFunctionality() {
         inventoryPage.openMenu();
-        // Wait a moment for menu to open
-        try { Thread.sleep(500); } catch (InterruptedException e) {}
+        assertTrue(inventoryPage.isMenuOpen(), "Menu should be open");
         
         inventoryPage.closeMenu();
         // Menu should close without errors
@@ -265,15 +271,51 @@ public class InventoryTest extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     @Story("Product Display")
     public void testProductInformationCompleteness() {
-        List<String> productNames = inventoryPage.getProductNames();
-        
-        for (String productName : productNames) {
-            String price = inventoryPage.getProductPrice(productName);
-            String description = inventoryPage.getProductDescription(productName);
-            
-            assertFalse(price.isEmpty(), "Product price should not be empty for: " + productName);
-            assertFalse(description.isEmpty(), "Product description should not be empty for: " + productName);
-            assertTrue(price.startsWith("$"), "Price should start with $ for: " + productName);
+        // One read of the page serves both the drift check and the per-product checks of what is displayed
+        ProductCatalog live = inventoryPage.extractCatalog("live");
+        List<String> drift = catalog().diff(live);
+        assertTrue(drift.isEmpty(), "Inventory should match the product catalog: " + drift);
+
+        for (CatalogProduct product : live.getProducts()) {
+            String productName = product.name();
+            assertFalse(product.price().isEmpty(), "Product price should not be empty for: " + productName);
+            assertFalse(product.description().isEmpty(), "Product description should not be empty for: " + productName);
+            assertTrue(product.price().startsWith("$"), "Price should start with $ for: " + productName);
         }
     }
+
+    // Runs once the baseline for the current browser is committed (record with -Dvisual.update=true);
+    // the test below covers the same pipeline against a baseline it records itself
+    @Test
+    @EnabledIf("hasInventoryBaseline")
+    @DisplayName("Verify inventory page matches its visual baseline")
+    @Description("Test that the rendered inventory page matches the stored screenshot baseline within the perceptual tolerance")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Product Display")
+    public void testInventoryPageMatchesVisualBaseline() {
+        DiffResult result = inventoryPage.compareWithBaseline("inventory-page");
+
+        assertTrue(result.matches(), "Inventory page should match its visual baseline: " + result);
+    }
+
+    @Test
+    @DisplayName("Verify visual comparison detects a changed inventory page")
+    @Description("Test that a baseline recorded from the live page matches the unchanged page and flags the page once its products are re-sorted")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Product Display")
+    public void testVisualComparisonDetectsInventoryChange(@TempDir Path baselines) {
+        DiffResult recorded = inventoryPage.compareWithBaseline(baselines, "inventory-page", true);
+        assertEquals(DiffResult.Status.BASELINE_RECORDED, recorded.status(), "Baseline should be recorded: " + recorded);
+
+        DiffResult unchanged = inventoryPage.compareWithBaseline(baselines, "inventory-page", false);
+        assertTrue(unchanged.matches(), "Unchanged page should match the baseline just recorded: " + unchanged);
+
+        inventoryPage.sortProducts("hilo");
+        DiffResult changed = inventoryPage.compareWithBaseline(baselines, "inventory-page", false);
+        assertFalse(changed.matches(), "Re-sorted page should not match the baseline: " + changed);
+    }
+
+    static boolean hasInventoryBaseline() {
+        return VisualBaselines.hasBaseline("inventory-page");
+    }
 }
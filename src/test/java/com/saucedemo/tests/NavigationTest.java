@@ -1,5 +1,7 @@
 package com.saucedemo.tests;
 
+import com.saucedemo.crawl.CrawlReport;
+import com.saucedemo.crawl.SiteCrawler;
 import com.saucedemo.pages.*;
 import io.qameta.allure.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,6 +10,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @Epic("Sauce Demo E-commerce")
@@ -28,15 +32,15 @@ public class NavigationTest extends BaseTest {
     @Description("Test opening and closing the hamburger menu")
     @Severity(SeverityLevel.CRITICAL)
     @Story("Menu Navigation")
+    @RealTimeAnimations
     public void testMenuOpenAndClose() {
-        // Open menu
+        // Open menu (waits for the slide-in transition to finish)
         inventoryPage.openMenu();
-        
-        // Wait for menu animation
-        try { Thread.sleep(500); } catch (InterruptedException e) {}
+        assertTrue(inventoryPage.isMenuOpen(), "Menu should be open");
         
         // Close menu
         inventoryPage.closeMenu();
+        assertFalse(inventoryPage.isMenuOpen(), "Menu should be closed");
         
         // Verify we're still on inventory page
         assertTrue(inventoryPage.isInventoryPageLoaded(), "Should remain on inventory page after menu operations");
@@ -386,4 +390,26 @@ public class NavigationTest extends BaseTest {
         InventoryPage backToInventory = backToCart.continueShopping();
         assertTrue(backToInventory.isInventoryPageLoaded(), "Should be able to navigate back to inventory");
     }
+
+    @Test
+    @DisplayName("Crawl whole app for navigation coverage")
+    @Description("Test that every route reachable from the inventory page loads without broken links or script errors")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Navigation Coverage")
+    public void testCrawlWholeAppForNavigationCoverage() {
+        SiteCrawler crawler = new SiteCrawler(config.crawlerConcurrency(), config.crawlerMaxRoutes(), config.crawlerExclude());
+        CrawlReport report = crawler.crawl(inventoryPage.getCurrentUrl());
+        Allure.addAttachment("Crawl Report", "text/plain", report.toTable());
+
+        List<String> routes = report.getRouteUrls();
+        assertTrue(routes.stream().anyMatch(url -> url.contains("/inventory.html")), "Crawl should cover the inventory page");
+        assertTrue(routes.stream().anyMatch(url -> url.contains("/cart.html")), "Crawl should reach the cart page");
+        assertTrue(routes.stream().anyMatch(url -> url.contains("/checkout-step-one.html")), "Crawl should reach checkout");
+        assertEquals(catalog().size(), routes.stream().filter(url -> url.contains("/inventory-item.html?id=")).count(),
+                "Crawl should reach the detail page of every product");
+
+        assertTrue(report.getBrokenRoutes().isEmpty(), "No route should be broken: " + report.getBrokenRoutes());
+        assertTrue(report.getRoutesWithPageErrors().isEmpty(), "No route should throw script errors: " + report.getRoutesWithPageErrors());
+        assertTrue(inventoryPage.isInventoryPageLoaded(), "Crawl should leave the original page untouched");
+    }
 }
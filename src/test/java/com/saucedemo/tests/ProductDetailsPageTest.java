@@ -1,6 +1,8 @@
 package com.saucedemo.tests;
 
+import com.saucedemo.catalog.CatalogProduct;
 import com.saucedemo.pages.*;
+import com.saucedemo.pages.probe.ProductDetailsSnapshot;
 import io.qameta.allure.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -8,6 +10,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @Epic("Sauce Demo E-commerce")
@@ -59,17 +63,12 @@ public class ProductDetailsPageTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Story("Product Details Display")
     public void testProductInformationAccuracy() {
-        // Go back to inventory to get expected values
-        InventoryPage returnedInventoryPage = productDetailsPage.goBackToProducts();
-        String expectedPrice = returnedInventoryPage.getProductPrice(testProductName);
-        String expectedDescription = returnedInventoryPage.getProductDescription(testProductName);
-        
-        // Return to product details
-        ProductDetailsPage refreshedDetailsPage = returnedInventoryPage.clickProductName(testProductName);
+        // Expected values come from the run-scoped catalog, already checked against the inventory page
+        CatalogProduct expected = catalog().get(testProductName);
         
-        assertEquals(expectedPrice, refreshedDetailsPage.getProductPrice(), "Price should match inventory page");
-        assertEquals(expectedDescription, refreshedDetailsPage.getProductDescription(), "Description should match inventory page");
-        assertEquals(testProductName, refreshedDetailsPage.getProductName(), "Product name should be consistent");
+        assertEquals(expected.price(), productDetailsPage.getProductPrice(), "Price should match inventory page");
+        assertEquals(expected.description(), productDetailsPage.getProductDescription(), "Description should match inventory page");
+        assertEquals(testProductName, productDetailsPage.getProductName(), "Product name should be consistent");
     }
 
     @Test
@@ -194,6 +193,28 @@ public class ProductDetailsPageTest extends BaseTest {
                 "Product image should be displayed for " + productName);
     }
 
+    @Test
+    @DisplayName("Verify details of all products in parallel pages")
+    @Description("Test that every product detail page matches the catalog, reading all detail pages concurrently")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Product Details Display")
+    public void testAllProductDetailsInParallelPages() {
+        InventoryPage returnedInventoryPage = productDetailsPage.goBackToProducts();
+        Map<String, ProductDetailsSnapshot> details = returnedInventoryPage.captureProductDetails();
+
+        assertEquals(catalog().size(), details.size(), "Should capture a detail page for every product");
+        for (CatalogProduct expected : catalog().getProducts()) {
+            ProductDetailsSnapshot actual = details.get(expected.name());
+            assertNotNull(actual, "Detail page should be captured for " + expected.name());
+            assertEquals(expected.name(), actual.name(), "Product name should match for " + expected.name());
+            assertEquals(expected.price(), actual.price(), "Price should match for " + expected.name());
+            assertEquals(expected.description(), actual.description(), "Description should match for " + expected.name());
+            assertTrue(actual.imageSrc() != null && actual.imageSrc().matches(".*\\.(jpg|png|gif)$"),
+                    "Image source should be a valid image for " + expected.name() + ": " + actual.imageSrc());
+        }
+        assertTrue(returnedInventoryPage.isInventoryPageLoaded(), "Inventory page should stay open");
+    }
+
     @Test
     @DisplayName("Add multiple products to cart via details pages")
     @Description("Test adding multiple products to cart by navigating through details pages")
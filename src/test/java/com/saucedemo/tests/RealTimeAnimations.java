@@ -0,0 +1,15 @@
+package com.saucedemo.tests;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Opts a test (or every test in a class) out of zero-duration CSS animations, for tests
+ * that assert real animation behavior.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RealTimeAnimations {
+}
@@ -0,0 +1,56 @@
+package com.saucedemo.tests;
+
+import com.saucedemo.utils.BrowserManager;
+import com.saucedemo.utils.SharedBrowser;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Backs {@link ConcurrentInvocations}: the first invocation of a parameterized test launches one shared browser,
+ * stored on the test template so it is closed when the last invocation finishes. Each invocation thread then
+ * connects to it before {@code BaseTest.setUp} creates the browser, and gets its own context and page.
+ */
+class SiblingContextExtension implements BeforeEachCallback, AfterEachCallback {
+    private static final Logger logger = LoggerFactory.getLogger(SiblingContextExtension.class);
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(SiblingContextExtension.class);
+
+    private static final class SharedBrowserResource implements ExtensionContext.Store.CloseableResource {
+        private final SharedBrowser browser;
+
+        private SharedBrowserResource(SharedBrowser browser) {
+            this.browser = browser;
+        }
+
+        @Override
+        public void close() {
+            if (browser != null) {
+                browser.close();
+            }
+        }
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        if (context.getTestInstanceLifecycle().orElse(TestInstance.Lifecycle.PER_METHOD) == TestInstance.Lifecycle.PER_CLASS) {
+            throw new PreconditionViolationException(context.getRequiredTestClass().getSimpleName()
+                    + " must use @TestInstance(Lifecycle.PER_METHOD) for @ConcurrentInvocations");
+        }
+        ExtensionContext template = context.getParent().orElse(context);
+        SharedBrowserResource shared = template.getStore(NAMESPACE).getOrComputeIfAbsent(
+                "shared-browser", key -> new SharedBrowserResource(SharedBrowser.launch()), SharedBrowserResource.class);
+        if (shared.browser != null) {
+            BrowserManager.useSharedBrowser(shared.browser.getEndpoint());
+            logger.info("Invocation '{}' runs in a sibling context of {}", context.getDisplayName(), shared.browser.getEndpoint());
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        BrowserManager.useSharedBrowser(null);
+    }
+}
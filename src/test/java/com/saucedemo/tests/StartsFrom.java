@@ -0,0 +1,16 @@
+package com.saucedemo.tests;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Names the {@link Flows} prefix a test (or every test in a class) enters, so setup can create the test's
+ * context from that flow's snapshot. The test still calls {@code enter()} on the flow itself.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StartsFrom {
+    String value();
+}
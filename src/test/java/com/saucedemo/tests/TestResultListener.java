@@ -1,33 +1,62 @@
 package com.saucedemo.tests;
 
-import com.saucedemo.utils.BrowserManager;
+import com.saucedemo.utils.EvidenceManager;
+import com.saucedemo.utils.EvidenceWriter;
+import com.saucedemo.utils.ScreenshotStore;
 import io.qameta.allure.Allure;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.LifecycleMethodExecutionExceptionHandler;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
 import org.junit.jupiter.api.extension.TestWatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Optional;
 
-public class TestResultListener implements TestWatcher {
+public class TestResultListener implements TestWatcher, TestExecutionExceptionHandler,
+        LifecycleMethodExecutionExceptionHandler {
     private static final Logger logger = LoggerFactory.getLogger(TestResultListener.class);
 
+    // Watcher callbacks run after @AfterEach has closed the browser, so the failing page
+    // is captured here, while it is still open, and published once the outcome is known
+    @Override
+    public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        try {
+            EvidenceManager.freezeScreencast();
+            EvidenceManager.captureScreenshot("failure");
+            EvidenceManager.captureTrace(getTestName(context).replaceAll("[^a-zA-Z0-9_-]", "_") + "_failure_" + getTimestamp());
+        } catch (Exception e) {
+            logger.warn("Could not capture failure evidence for {}: {}", getTestName(context), e.getMessage());
+        }
+        throw throwable;
+    }
+
+    // Setup may fail before the browser or page exists; the original failure is always the one reported
+    @Override
+    public void handleBeforeEachMethodExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        try {
+            EvidenceManager.freezeScreencast();
+            EvidenceManager.captureScreenshot("setup failure");
+        } catch (Exception e) {
+            logger.warn("Could not capture setup failure evidence for {}: {}", getTestName(context), e.getMessage());
+        }
+        throw throwable;
+    }
+
     @Override
     public void testSuccessful(ExtensionContext context) {
         String testName = getTestName(context);
         logger.info("✅ Test PASSED: {}", testName);
+        EvidenceManager.retainVideo(false);
+        EvidenceManager.retainScreencast(false);
         
-        // Take screenshot on success if configured
-        if (shouldTakeScreenshotOnSuccess()) {
-            String screenshotName = testName + "_success_" + getTimestamp();
-            BrowserManager.takeScreenshot(screenshotName);
-            attachScreenshotToAllure(screenshotName, "Success Screenshot");
+        // Only present when screenshot.mode=ALWAYS made tearDown capture it
+        byte[] screenshot = EvidenceManager.takeScreenshot();
+        if (screenshot != null) {
+            EvidenceManager.publishScreenshot(testName, "success", "Success Screenshot", screenshot);
         }
     }
 
@@ -36,37 +65,36 @@ public class TestResultListener implements TestWatcher {
         String testName = getTestName(context);
         logger.error("❌ Test FAILED: {} - Error: {}", testName, cause.getMessage());
         
-        // Take screenshot immediately on failure and attach to Allure
-        // This runs BEFORE BaseTest.tearDown(), so browser should still be available
-        takeAndAttachScreenshot(testName);
-        
-        // Also check for any existing screenshots (for demo tests)
+        // Check for any existing screenshots (for demo tests) before this failure adds its own file
         attachExistingScreenshots(testName);
+
+        // Publish the screenshot captured when the test threw, while its page was still open
+        attachFailureScreenshot(testName);
         
-        // Save trace on failure
-        try {
-            String traceName = testName + "_failure_" + getTimestamp();
-            BrowserManager.saveTrace(traceName);
-        } catch (Exception e) {
-            logger.warn("Could not save trace: {}", e.getMessage());
-        }
+        EvidenceManager.retainVideo(true);
+        EvidenceManager.retainScreencast(true);
+
+        // Trace was saved (and queued for slimming) when the test threw; link the zip into the report
+        EvidenceManager.attachTrace();
         
         // Attach error details to Allure
-        Allure.addAttachment("Error Details", "text/plain", 
+        EvidenceWriter.attach("Error Details", "text/plain", "txt", (
             "Test: " + testName + "\n" +
             "Error: " + cause.getMessage() + "\n" +
-            "Stack Trace: " + getStackTrace(cause));
+            "Stack Trace: " + getStackTrace(cause)).getBytes(StandardCharsets.UTF_8));
     }
 
     @Override
     public void testAborted(ExtensionContext context, Throwable cause) {
         String testName = getTestName(context);
         logger.warn("⚠️ Test ABORTED: {} - Reason: {}", testName, cause.getMessage());
+        EvidenceManager.retainVideo(false);
+        EvidenceManager.retainScreencast(false);
         
-        // Take screenshot on abort
-        String screenshotName = testName + "_aborted_" + getTimestamp();
-        BrowserManager.takeScreenshot(screenshotName);
-        attachScreenshotToAllure(screenshotName, "Aborted Screenshot");
+        byte[] screenshot = EvidenceManager.takeScreenshot();
+        if (screenshot != null) {
+            EvidenceManager.publishScreenshot(testName, "aborted", "Aborted Screenshot", screenshot);
+        }
     }
 
     @Override
@@ -85,93 +113,24 @@ public class TestResultListener implements TestWatcher {
         return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
     }
 
-    private void takeAndAttachScreenshot(String testName) {
-        try {
-            // Check if browser/page is still available
-            if (BrowserManager.getPage() != null && !BrowserManager.getPage().isClosed()) {
-                // Primary method: Take screenshot directly and attach to Allure
-                byte[] screenshotBytes = BrowserManager.getPage().screenshot();
-                Allure.addAttachment("Failure Screenshot", "image/png", 
-                    new ByteArrayInputStream(screenshotBytes), "png");
-                logger.info("✅ Failure screenshot captured and attached to Allure");
-                
-                // Optional: Also save to file for debugging
-                try {
-                    String screenshotName = testName.replaceAll("[^a-zA-Z0-9]", "_") + "_failure_" + getTimestamp();
-                    BrowserManager.takeScreenshot(screenshotName);
-                    logger.debug("Screenshot also saved to file: {}", screenshotName);
-                } catch (Exception fileEx) {
-                    logger.debug("Could not save screenshot to file: {}", fileEx.getMessage());
-                }
-                return; // Successfully captured screenshot
-            }
-            
-            logger.warn("Browser/page not available for direct screenshot capture, trying fallback methods");
-            
-        } catch (Exception e) {
-            logger.error("Failed to take failure screenshot: {}", e.getMessage());
+    private void attachFailureScreenshot(String testName) {
+        byte[] screenshot = EvidenceManager.takeScreenshot();
+        if (screenshot != null) {
+            EvidenceManager.publishScreenshot(testName, "failure", "Failure Screenshot", screenshot);
+            return;
         }
-        
-        // Fallback 1: Try to find recently saved screenshots from BaseTest.tearDown()
-        try {
-            String cleanTestName = testName.replaceAll("[^a-zA-Z0-9]", "_");
-            Path screenshotsDir = Paths.get("test-results/screenshots");
-            
-            if (Files.exists(screenshotsDir)) {
-                // Look for recent screenshots matching this test
-                Optional<Path> recentScreenshot = Files.list(screenshotsDir)
-                    .filter(path -> {
-                        String filename = path.getFileName().toString();
-                        return filename.contains(cleanTestName) && 
-                               filename.endsWith(".png") &&
-                               isRecentFile(path, 10); // within last 10 seconds
-                    })
-                    .findFirst();
-                
-                if (recentScreenshot.isPresent()) {
-                    byte[] screenshot = Files.readAllBytes(recentScreenshot.get());
-                    Allure.addAttachment("Failure Screenshot", "image/png", 
-                        new ByteArrayInputStream(screenshot), "png");
-                    logger.info("✅ Recent screenshot attached to Allure: {}", recentScreenshot.get().getFileName());
-                    return;
-                }
-            }
-        } catch (Exception fallbackEx) {
-            logger.debug("Could not find recent screenshots: {}", fallbackEx.getMessage());
+        if (EvidenceManager.isScreenshotMode("OFF")) {
+            return;
         }
-        
-        // Fallback 2: Save a text attachment explaining the issue
-        logger.warn("No screenshot could be captured or found for failed test: {}", testName);
+
+        // Save a text attachment explaining the issue
+        logger.warn("No screenshot could be captured for failed test: {}", testName);
         Allure.addAttachment("Screenshot Status", "text/plain", 
             "Screenshot could not be captured for this test failure.\n" +
             "This may be due to browser being closed before screenshot capture.\n" +
             "Test: " + testName + "\n" +
             "Timestamp: " + getTimestamp());
     }
-    
-    private boolean isRecentFile(Path file, int secondsAgo) {
-        try {
-            long fileTime = Files.getLastModifiedTime(file).toMillis();
-            long currentTime = System.currentTimeMillis();
-            return (currentTime - fileTime) < (secondsAgo * 1000);
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    private void attachScreenshotToAllure(String screenshotName, String description) {
-        try {
-            Path screenshotPath = Paths.get("test-results/screenshots/" + screenshotName + ".png");
-            if (Files.exists(screenshotPath)) {
-                byte[] screenshot = Files.readAllBytes(screenshotPath);
-                Allure.addAttachment(description, "image/png", 
-                    new ByteArrayInputStream(screenshot), "png");
-                logger.info("Screenshot attached to Allure report: {}", screenshotName);
-            }
-        } catch (Exception e) {
-            logger.error("Failed to attach screenshot to Allure: {}", e.getMessage());
-        }
-    }
 
     private String getStackTrace(Throwable throwable) {
         StringBuilder sb = new StringBuilder();
@@ -181,39 +140,11 @@ public class TestResultListener implements TestWatcher {
         return sb.toString();
     }
 
-    private boolean shouldTakeScreenshotOnSuccess() {
-        return System.getProperty("screenshot.mode", "ON_FAILURE").equalsIgnoreCase("ALWAYS");
-    }
-    
     private void attachExistingScreenshots(String testName) {
-        try {
-            Path screenshotsDir = Paths.get("test-results/screenshots");
-            if (Files.exists(screenshotsDir)) {
-                logger.debug("Looking for existing screenshots for test: {}", testName);
-                
-                // Extract class name from testName (e.g., "LoginTest.testSuccessfulLogin()" -> "LoginTest")
-                String className = testName.split("\\.")[0];
-                
-                Files.list(screenshotsDir)
-                    .filter(path -> {
-                        String filename = path.getFileName().toString();
-                        // Look for screenshots that match the class name or contain DEMO
-                        return (filename.startsWith(className) && filename.contains("DEMO")) ||
-                               filename.contains(className);
-                    })
-                    .forEach(path -> {
-                        try {
-                            byte[] screenshot = Files.readAllBytes(path);
-                            Allure.addAttachment("Additional Screenshot", "image/png", 
-                                new ByteArrayInputStream(screenshot), "png");
-                            logger.info("✅ Additional screenshot attached: {}", path.getFileName());
-                        } catch (Exception e) {
-                            logger.error("Failed to attach additional screenshot: {}", e.getMessage());
-                        }
-                    });
-            }
-        } catch (Exception e) {
-            logger.debug("No additional screenshots found or error occurred: {}", e.getMessage());
+        // Screenshots the test took itself (e.g. demo step captures), looked up in the store's index
+        for (ScreenshotStore.Entry entry : ScreenshotStore.entriesFor(testName)) {
+            ScreenshotStore.attachStored("Additional Screenshot: " + entry.label(), entry);
+            logger.info("✅ Additional screenshot attached: {}", entry.blob());
         }
     }
 }
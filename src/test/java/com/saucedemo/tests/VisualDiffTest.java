@@ -0,0 +1,113 @@
+package com.saucedemo.tests;
+
+import com.saucedemo.visual.DiffResult;
+import com.saucedemo.visual.VisualDiff;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pure image comparisons on generated PNGs; no browser, so this class does not extend BaseTest.
+ */
+@Epic("Sauce Demo E-commerce")
+@Feature("Visual Regression")
+@Owner("QA Team")
+public class VisualDiffTest {
+
+    private static final int WIDTH = 400;
+    private static final int HEIGHT = 300;
+    private static final int WHITE = 0xFFFFFFFF;
+    private static final int BLACK = 0xFF000000;
+
+    private final VisualDiff visualDiff = new VisualDiff(0.1, 0.001, 32, ForkJoinPool.commonPool());
+
+    @Test
+    @DisplayName("Verify identical images match")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Visual Diff Engine")
+    public void testIdenticalImagesMatch() throws IOException {
+        byte[] image = png(filled(WHITE), WIDTH, HEIGHT);
+
+        DiffResult result = visualDiff.compare(image, image);
+
+        assertEquals(DiffResult.Status.MATCH, result.status(), result.toString());
+        assertEquals(0, result.diffPixels(), "No pixel should differ");
+    }
+
+    @Test
+    @DisplayName("Verify imperceptible colour changes are within tolerance")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Visual Diff Engine")
+    public void testImperceptibleChangeWithinTolerance() throws IOException {
+        byte[] actual = png(filled(0xFFFCFCFC), WIDTH, HEIGHT);
+
+        DiffResult result = visualDiff.compare(png(filled(WHITE), WIDTH, HEIGHT), actual);
+
+        assertTrue(result.matches(), "A near-white shift should not count as a difference: " + result);
+        assertEquals(0, result.diffPixels(), "Every pixel should be within the perceptual threshold");
+    }
+
+    @Test
+    @DisplayName("Verify differences under the budget match and are marked in the diff image")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Visual Diff Engine")
+    public void testDifferencesUnderBudgetMatch() throws IOException {
+        int[] changed = filled(WHITE);
+        for (int x = 10; x < 20; x++) {
+            changed[50 * WIDTH + x] = BLACK;
+        }
+
+        DiffResult result = visualDiff.compare(png(filled(WHITE), WIDTH, HEIGHT), png(changed, WIDTH, HEIGHT));
+
+        assertEquals(DiffResult.Status.MATCH, result.status(), result.toString());
+        assertEquals(10, result.diffPixels(), "Exactly the changed pixels should be counted");
+        assertEquals(0xFFFF0000, result.diff()[50 * WIDTH + 15], "Changed pixel should be red in the diff image");
+        assertNotEquals(0xFFFF0000, result.diff()[0], "Unchanged pixel should not be red in the diff image");
+    }
+
+    @Test
+    @DisplayName("Verify comparison stops early once the mismatch budget is exceeded")
+    @Severity(SeverityLevel.CRITICAL)
+    @Story("Visual Diff Engine")
+    public void testBudgetExceededStopsEarly() throws IOException {
+        DiffResult result = visualDiff.compare(png(filled(WHITE), WIDTH, HEIGHT), png(filled(BLACK), WIDTH, HEIGHT));
+
+        assertEquals(DiffResult.Status.MISMATCH, result.status(), result.toString());
+        assertFalse(result.matches(), "Exceeding the budget should fail the comparison");
+        assertTrue(result.diffPixels() > result.maxDiffPixels(), "Counted differences should exceed the budget");
+        assertTrue(result.diffPixels() < (long) WIDTH * HEIGHT / 2,
+                "Comparison should stop long before visiting every differing pixel: " + result);
+    }
+
+    @Test
+    @DisplayName("Verify images of different sizes never match")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Visual Diff Engine")
+    public void testSizeMismatch() throws IOException {
+        byte[] expected = png(filled(WHITE), WIDTH, HEIGHT);
+        int[] taller = new int[WIDTH * (HEIGHT + 1)];
+        Arrays.fill(taller, WHITE);
+
+        DiffResult result = visualDiff.compare(expected, png(taller, WIDTH, HEIGHT + 1));
+
+        assertEquals(DiffResult.Status.SIZE_MISMATCH, result.status(), result.toString());
+        assertFalse(result.matches(), "Different sizes should fail the comparison");
+        assertEquals(HEIGHT + 1, result.height(), "Diff should cover the union of both images");
+    }
+
+    private static int[] filled(int argb) {
+        int[] pixels = new int[WIDTH * HEIGHT];
+        Arrays.fill(pixels, argb);
+        return pixels;
+    }
+
+    private static byte[] png(int[] pixels, int width, int height) throws IOException {
+        return VisualDiff.encodePng(pixels, width, height);
+    }
+}